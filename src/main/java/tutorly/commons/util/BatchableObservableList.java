@@ -0,0 +1,76 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list backed by an {@code ArrayList}, or another list, that can group several modifications into a
+ * single change.
+ * Modifications made between {@link #beginBatch()} and the matching {@link #endBatch()} are reported to listeners as
+ * one change when the outermost batch ends. Batches can be nested.
+ */
+public class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements;
+
+    /**
+     * Creates an empty list backed by an {@code ArrayList}.
+     */
+    public BatchableObservableList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Creates a list backed by {@code elements}, which must support adding, replacing and removing elements at any
+     * position. {@code elements} must not be modified other than through this list.
+     */
+    public BatchableObservableList(List<E> elements) {
+        requireNonNull(elements);
+        this.elements = elements;
+    }
+
+    /**
+     * Starts a batch of modifications. Listeners are not notified until the batch ends.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends a batch of modifications. If this ends the outermost batch, listeners are notified of all modifications
+     * made during the batch as a single change.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+}
@@ -0,0 +1,33 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values can share a single instance.
+ * Values are held weakly, so a canonical instance is dropped from the pool once nothing else refers to it.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}.
+     * If there is none yet, {@code value} becomes the canonical instance and is returned.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+}
@@ -1,12 +1,20 @@
 package tutorly.commons.util;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import tutorly.commons.util.PassCountTree.Node;
 
 /**
  * Utility class for observable lists.
@@ -27,22 +35,190 @@ public class ObservableListUtil {
         return FXCollections.unmodifiableObservableList(list);
     }
 
+    /**
+     * Returns a dependency on {@code list}, where a change to an element of {@code list} affects the elements returned
+     * by {@code affectedElements} for it.
+     */
+    public static <T, D> Dependency<T> dependency(ObservableList<D> list,
+            Function<? super D, ? extends Collection<? extends T>> affectedElements) {
+        return listener -> list.addListener((ListChangeListener<D>) change -> {
+            List<T> affected = new ArrayList<>();
+            while (change.next()) {
+                for (D removed : change.getRemoved()) {
+                    affected.addAll(affectedElements.apply(removed));
+                }
+                for (D added : change.getAddedSubList()) {
+                    affected.addAll(affectedElements.apply(added));
+                }
+            }
+            listener.accept(affected);
+        });
+    }
+
     /**
      * Creates a filtered list that is updated whenever the list or the dependencies change.
+     * Only the elements affected by a change are tested again: the elements added to or updated in the list, and the
+     * elements that a dependency reports as affected by its change. Affected elements that still pass are replaced by
+     * themselves, so that views of the filtered list show them again.
+     * <p>
+     * The elements of the list are found by a hash lookup, and their positions in the filtered list are counted in an
+     * order statistics tree, so a change affecting k elements takes O(k log n) time besides updating the filtered list
+     * itself. The elements must therefore implement {@code Object#hashCode()} consistently with
+     * {@code Object#equals(Object)}.
      */
-    public static <T> FilteredList<T> filteredList(ObservableList<T> list, Predicate<T> predicate,
-            List<ObservableList<?>> dependencies) {
-        FilteredList<T> filteredList = new FilteredList<>(list, predicate);
+    public static <T> ObservableList<T> filteredList(ObservableList<T> list, Predicate<T> predicate,
+            List<Dependency<T>> dependencies) {
+        IncrementalFilter<T> filter = new IncrementalFilter<>(list, predicate);
+        list.addListener((ListChangeListener<T>) filter::onSourceChanged);
+        for (Dependency<T> dependency : dependencies) {
+            dependency.addListener(filter::onDependencyChanged);
+        }
+        return unmodifiableList(filter.filtered);
+    }
+
+    /**
+     * Represents a list that a filtered list depends on.
+     */
+    @FunctionalInterface
+    public interface Dependency<T> {
+        /**
+         * Adds a listener that is called with the elements of the filtered list affected by each change to the
+         * dependency.
+         */
+        void addListener(Consumer<Collection<? extends T>> listener);
+    }
+
+    /**
+     * Keeps a filtered copy of a source list, alongside whether each element of the source list passes the predicate.
+     */
+    private static class IncrementalFilter<T> {
+        private final ObservableList<T> source;
+        private final Predicate<T> predicate;
+        private final PassCountTree<T> passes = new PassCountTree<>();
+        // The nodes of the elements of the source list, by element, of which there is usually only one
+        private final Map<T, List<Node<T>>> nodes = new HashMap<>();
+        private final BatchableObservableList<T> filtered = new BatchableObservableList<>();
+
+        private IncrementalFilter(ObservableList<T> source, Predicate<T> predicate) {
+            this.source = source;
+            this.predicate = predicate;
+            insert(0, source);
+        }
 
-        for (ObservableList<?> dependency : dependencies) {
-            dependency.addListener((ListChangeListener<? super Object>) change -> {
-                // Reset the predicate to refilter the list
-                filteredList.setPredicate(t -> false);
-                filteredList.setPredicate(predicate);
-            });
+        private void onSourceChanged(ListChangeListener.Change<? extends T> change) {
+            filtered.beginBatch();
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    onSourcePermutated(change);
+                    continue;
+                }
+
+                int from = change.getFrom();
+                if (change.wasUpdated()) {
+                    for (int i = from; i < change.getTo(); i++) {
+                        retest(passes.get(i));
+                    }
+                    continue;
+                }
+
+                if (change.getRemovedSize() > 0) {
+                    remove(from, from + change.getRemovedSize());
+                }
+                if (change.getTo() > from) {
+                    insert(from, source.subList(from, change.getTo()));
+                }
+            }
+            filtered.endBatch();
+        }
+
+        private void onSourcePermutated(ListChangeListener.Change<? extends T> change) {
+            List<Node<T>> ordered = passes.nodes();
+            List<Node<T>> permuted = new ArrayList<>(ordered);
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                permuted.set(change.getPermutation(i), ordered.get(i));
+            }
+            passes.reorder(permuted);
+
+            List<T> reordered = new ArrayList<>();
+            for (Node<T> node : permuted) {
+                if (node.isPassing()) {
+                    reordered.add(node.getElement());
+                }
+            }
+            filtered.setAll(reordered);
         }
 
-        return filteredList;
+        private void onDependencyChanged(Collection<? extends T> affectedElements) {
+            if (affectedElements.isEmpty()) {
+                return;
+            }
+
+            List<Node<T>> affected = new ArrayList<>();
+            for (T element : new HashSet<>(affectedElements)) {
+                affected.addAll(nodes.getOrDefault(element, List.of()));
+            }
+
+            // Tested again in the order of the source list, as if the source list were scanned
+            affected.sort(Comparator.comparingInt(passes::indexOf));
+            filtered.beginBatch();
+            affected.forEach(this::retest);
+            filtered.endBatch();
+        }
+
+        /**
+         * Inserts {@code elements} at {@code index} of the source list, testing each of them.
+         */
+        private void insert(int index, List<T> elements) {
+            int position = passes.countPassingBefore(index);
+            List<T> passing = new ArrayList<>();
+            for (Node<T> node : passes.insertAll(index, elements, predicate)) {
+                nodes.computeIfAbsent(node.getElement(), element -> new ArrayList<>(1)).add(node);
+                if (node.isPassing()) {
+                    passing.add(node.getElement());
+                }
+            }
+            filtered.addAll(position, passing);
+        }
+
+        /**
+         * Removes the elements at {@code [from, to)} of the source list.
+         */
+        private void remove(int from, int to) {
+            int position = passes.countPassingBefore(from);
+            int passingCount = 0;
+            for (Node<T> node : passes.removeRange(from, to)) {
+                List<Node<T>> elementNodes = nodes.get(node.getElement());
+                elementNodes.remove(node);
+                if (elementNodes.isEmpty()) {
+                    nodes.remove(node.getElement());
+                }
+                if (node.isPassing()) {
+                    passingCount++;
+                }
+            }
+            if (passingCount > 0) {
+                filtered.remove(position, position + passingCount);
+            }
+        }
+
+        /**
+         * Tests the element of {@code node} again, and updates the filtered list if needed.
+         */
+        private void retest(Node<T> node) {
+            T element = node.getElement();
+            boolean wasPassing = node.isPassing();
+            boolean isPassing = predicate.test(element);
+            int position = passes.countPassingBefore(node);
+            passes.setPassing(node, isPassing);
+
+            if (wasPassing && isPassing) {
+                filtered.set(position, element);
+            } else if (wasPassing) {
+                filtered.remove(position);
+            } else if (isPassing) {
+                filtered.add(position, element);
+            }
+        }
     }
 
 }
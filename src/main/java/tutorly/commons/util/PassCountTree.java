@@ -0,0 +1,281 @@
+package tutorly.commons.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * A sequence of elements, each marked as passing a filter or not, that supports inserting and removing elements at any
+ * position, changing whether an element passes, and counting the passing elements before an element, each in
+ * O(log n) expected time.
+ * <p>
+ * The sequence is kept as a treap ordered by position, where each node also counts the elements and the passing
+ * elements under it. Each node links to its parent, so the position of an element can be found from its node by
+ * walking up the tree, without searching for it.
+ */
+class PassCountTree<T> {
+
+    private Node<T> root;
+
+    /**
+     * An element of the sequence. A node stays valid until its element is removed from the sequence.
+     */
+    static class Node<T> {
+        private final T element;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private boolean isPassing;
+        private Node<T> left;
+        private Node<T> right;
+        private Node<T> parent;
+        private int size;
+        private int passingCount;
+
+        private Node(T element, boolean isPassing) {
+            this.element = element;
+            this.isPassing = isPassing;
+            this.size = 1;
+            this.passingCount = isPassing ? 1 : 0;
+        }
+
+        T getElement() {
+            return element;
+        }
+
+        boolean isPassing() {
+            return isPassing;
+        }
+    }
+
+    /**
+     * The two parts of a tree split at a position.
+     */
+    private static class Split<T> {
+        private final Node<T> left;
+        private final Node<T> right;
+
+        private Split(Node<T> left, Node<T> right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the sequence.
+     */
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the node at {@code index} of the sequence.
+     */
+    Node<T> get(int index) {
+        Objects.checkIndex(index, size());
+
+        Node<T> node = root;
+        int remaining = index;
+        while (remaining != size(node.left)) {
+            if (remaining < size(node.left)) {
+                node = node.left;
+            } else {
+                remaining -= size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns the position of {@code node} in the sequence.
+     */
+    int indexOf(Node<T> node) {
+        int index = size(node.left);
+        for (Node<T> child = node; child.parent != null; child = child.parent) {
+            if (child == child.parent.right) {
+                index += size(child.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of passing elements before {@code node} in the sequence.
+     */
+    int countPassingBefore(Node<T> node) {
+        int count = passingCount(node.left);
+        for (Node<T> child = node; child.parent != null; child = child.parent) {
+            if (child == child.parent.right) {
+                count += passingCount(child.parent.left) + (child.parent.isPassing ? 1 : 0);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of passing elements before position {@code index} of the sequence.
+     */
+    int countPassingBefore(int index) {
+        int count = 0;
+        int remaining = index;
+        Node<T> node = root;
+        while (node != null) {
+            if (remaining <= size(node.left)) {
+                node = node.left;
+            } else {
+                count += passingCount(node.left) + (node.isPassing ? 1 : 0);
+                remaining -= size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Marks the element of {@code node} as passing or not.
+     */
+    void setPassing(Node<T> node, boolean isPassing) {
+        node.isPassing = isPassing;
+        for (Node<T> ancestor = node; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.passingCount = passingCount(ancestor.left) + passingCount(ancestor.right)
+                    + (ancestor.isPassing ? 1 : 0);
+        }
+    }
+
+    /**
+     * Inserts {@code elements} at position {@code index} of the sequence, each marked as passing if it satisfies
+     * {@code isPassing}, and returns their nodes in order. {@code isPassing} is tested once on each element, in order.
+     */
+    List<Node<T>> insertAll(int index, List<T> elements, Predicate<T> isPassing) {
+        Objects.checkIndex(index, size() + 1);
+
+        List<Node<T>> inserted = new ArrayList<>(elements.size());
+        Node<T> middle = null;
+        for (T element : elements) {
+            Node<T> node = new Node<>(element, isPassing.test(element));
+            inserted.add(node);
+            middle = merge(middle, node);
+        }
+
+        Split<T> split = split(root, index);
+        setRoot(merge(merge(split.left, middle), split.right));
+        return inserted;
+    }
+
+    /**
+     * Removes the elements at positions {@code [from, to)} of the sequence, and returns their nodes in order.
+     */
+    List<Node<T>> removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+
+        Split<T> before = split(root, from);
+        Split<T> removed = split(before.right, to - from);
+        setRoot(merge(before.left, removed.right));
+
+        List<Node<T>> nodes = new ArrayList<>(to - from);
+        collect(removed.left, nodes);
+        return nodes;
+    }
+
+    /**
+     * Returns the nodes of the sequence in order.
+     */
+    List<Node<T>> nodes() {
+        List<Node<T>> nodes = new ArrayList<>(size());
+        collect(root, nodes);
+        return nodes;
+    }
+
+    /**
+     * Rearranges the sequence into the order of {@code nodes}, which must be a permutation of {@link #nodes()}.
+     */
+    void reorder(List<Node<T>> nodes) {
+        Node<T> reordered = null;
+        for (Node<T> node : nodes) {
+            node.left = null;
+            node.right = null;
+            update(node);
+            reordered = merge(reordered, node);
+        }
+        setRoot(reordered);
+    }
+
+    private void setRoot(Node<T> node) {
+        root = node;
+        if (root != null) {
+            root.parent = null;
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int passingCount(Node<?> node) {
+        return node == null ? 0 : node.passingCount;
+    }
+
+    /**
+     * Recomputes the counts of {@code node} from its children, and links its children back to it.
+     */
+    private static <T> void update(Node<T> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        node.passingCount = passingCount(node.left) + passingCount(node.right) + (node.isPassing ? 1 : 0);
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+    }
+
+    /**
+     * Returns the tree of the elements of {@code left} followed by the elements of {@code right}.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    /**
+     * Splits {@code node} into the tree of its first {@code count} elements and the tree of the rest.
+     */
+    private static <T> Split<T> split(Node<T> node, int count) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+
+        if (count <= size(node.left)) {
+            Split<T> split = split(node.left, count);
+            node.left = split.right;
+            update(node);
+            return new Split<>(split.left, node);
+        }
+        Split<T> split = split(node.right, count - size(node.left) - 1);
+        node.right = split.left;
+        update(node);
+        return new Split<>(node, split.right);
+    }
+
+    private static <T> void collect(Node<T> node, List<Node<T>> nodes) {
+        if (node == null) {
+            return;
+        }
+        collect(node.left, nodes);
+        nodes.add(node);
+        collect(node.right, nodes);
+    }
+}
@@ -5,13 +5,15 @@ import static tutorly.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     /**
      * Returns true if {@code keyword} is a substring of any word in {@code sentence}.
      *   Ignores case and a partial match within a word is allowed.
@@ -33,10 +35,100 @@ public class StringUtil {
                 preppedKeyword.split("\\s+").length == 1,
                 "Keyword parameter should be a single word");
 
-        String[] wordsInSentence = sentence.split("\\s+");
+        return anyTokenContains(toSearchTokens(sentence), preppedKeyword.toLowerCase());
+    }
+
+    /**
+     * Returns true if {@code loweredKeyword} is a substring of any of the {@code searchTokens}.
+     * Unlike {@link #containsWordIgnoreCase(String, String)}, this does not split or convert the case of any string,
+     * so a search can prepare its tokens and keyword once and match them many times without allocating.
+     *
+     * @param searchTokens the words of a sentence, as returned by {@link #toSearchTokens(String)}
+     * @param loweredKeyword cannot be null, must be a single word in lower case
+     */
+    public static boolean anyTokenContains(String[] searchTokens, String loweredKeyword) {
+        requireNonNull(loweredKeyword);
+        for (String token : searchTokens) {
+            if (token.contains(loweredKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any of the {@code searchTokens} is within {@link #maxEditDistance(int)} edits of
+     * {@code loweredKeyword}, so that misspelled words still match.
+     *   <br>examples:<pre>
+     *       anyTokenSimilar(["john", "doe"], "jonh") == true // two substitutions
+     *       anyTokenSimilar(["john", "doe"], "do") == false // too short to allow any edits
+     *       </pre>
+     *
+     * @param searchTokens the words of a sentence, as returned by {@link #toSearchTokens(String)}
+     * @param loweredKeyword cannot be null, must be a single word in lower case
+     */
+    public static boolean anyTokenSimilar(String[] searchTokens, String loweredKeyword) {
+        requireNonNull(loweredKeyword);
+        int maxDistance = maxEditDistance(loweredKeyword.length());
+        for (String token : searchTokens) {
+            if (editDistance(token, loweredKeyword) <= maxDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return Arrays.stream(wordsInSentence)
-                .anyMatch(w -> w.toLowerCase().contains(preppedKeyword.toLowerCase()));
+    /**
+     * Returns the number of edits allowed for a word to be similar to a keyword of the given length.
+     * Short keywords allow fewer edits, so that they do not match most short words.
+     */
+    public static int maxEditDistance(int keywordLength) {
+        if (keywordLength <= 2) {
+            return 0;
+        } else if (keywordLength == 3) {
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b}, which is the least number of single character
+     * insertions, deletions and substitutions that change one into the other.
+     */
+    public static int editDistance(String a, String b) {
+        requireNonNull(a);
+        requireNonNull(b);
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Returns the words of {@code sentence} in lower case, for use with
+     * {@link #anyTokenContains(String[], String)}.
+     */
+    public static String[] toSearchTokens(String sentence) {
+        requireNonNull(sentence);
+        String trimmed = sentence.trim();
+        if (trimmed.isEmpty()) {
+            return new String[0];
+        }
+        return WHITESPACE.split(trimmed.toLowerCase());
     }
 
     /**
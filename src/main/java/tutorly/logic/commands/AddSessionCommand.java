@@ -1,13 +1,17 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_TIMESLOT;
 
+import java.util.List;
+
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.logic.Messages;
 import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.session.Session;
 import tutorly.ui.Tab;
 
@@ -34,6 +38,7 @@ public class AddSessionCommand extends SessionCommand {
             + "Use the clear command to reset.";
 
     private final Session toCreate;
+    private final List<AttendanceRecord> attendanceRecords;
 
     /**
      * Creates a CreateSessionCommand to add the specified {@code Session}.
@@ -41,8 +46,20 @@ public class AddSessionCommand extends SessionCommand {
      * @param session The session to be created.
      */
     public AddSessionCommand(Session session) {
-        requireNonNull(session);
+        this(session, List.of());
+    }
+
+    /**
+     * Creates a CreateSessionCommand to add the specified {@code Session} together with its
+     * {@code attendanceRecords}, such as to restore a deleted session.
+     *
+     * @param session The session to be created.
+     * @param attendanceRecords The attendance records of the session.
+     */
+    public AddSessionCommand(Session session, List<AttendanceRecord> attendanceRecords) {
+        requireAllNonNull(session, attendanceRecords);
         toCreate = session;
+        this.attendanceRecords = List.copyOf(attendanceRecords);
     }
 
     @Override
@@ -56,7 +73,14 @@ public class AddSessionCommand extends SessionCommand {
         }
 
         try {
-            model.addSession(toCreate);
+            if (attendanceRecords.isEmpty()) {
+                model.addSession(toCreate);
+            } else {
+                model.batch(() -> {
+                    model.addSession(toCreate);
+                    attendanceRecords.forEach(model::addAttendanceRecord);
+                });
+            }
         } catch (IllegalStateException e) {
             throw new CommandException(MESSAGE_LIMIT_REACHED);
         }
@@ -77,13 +101,15 @@ public class AddSessionCommand extends SessionCommand {
             return false;
         }
 
-        return toCreate.equals(otherCommand.toCreate);
+        return toCreate.equals(otherCommand.toCreate)
+                && attendanceRecords.equals(otherCommand.attendanceRecords);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("toCreate", toCreate)
+                .add("attendanceRecords", attendanceRecords)
                 .toString();
     }
 }
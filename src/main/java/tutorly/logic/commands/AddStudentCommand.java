@@ -1,6 +1,7 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorly.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static tutorly.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static tutorly.logic.parser.CliSyntax.PREFIX_MEMO;
@@ -8,10 +9,13 @@ import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.List;
+
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.logic.Messages;
 import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Person;
 import tutorly.ui.Tab;
@@ -47,13 +51,23 @@ public class AddStudentCommand extends StudentCommand {
             + "Use the clear command to reset.";
 
     private final Person toAdd;
+    private final List<AttendanceRecord> attendanceRecords;
 
     /**
      * Creates an AddCommand to add the specified {@code Person}
      */
     public AddStudentCommand(Person person) {
-        requireNonNull(person);
+        this(person, List.of());
+    }
+
+    /**
+     * Creates an AddCommand to add the specified {@code Person} together with their {@code attendanceRecords}, such as
+     * to restore a deleted person.
+     */
+    public AddStudentCommand(Person person, List<AttendanceRecord> attendanceRecords) {
+        requireAllNonNull(person, attendanceRecords);
         toAdd = person;
+        this.attendanceRecords = List.copyOf(attendanceRecords);
     }
 
     @Override
@@ -65,7 +79,14 @@ public class AddStudentCommand extends StudentCommand {
         }
 
         try {
-            model.addPerson(toAdd);
+            if (attendanceRecords.isEmpty()) {
+                model.addPerson(toAdd);
+            } else {
+                model.batch(() -> {
+                    model.addPerson(toAdd);
+                    attendanceRecords.forEach(model::addAttendanceRecord);
+                });
+            }
         } catch (IllegalStateException e) {
             throw new CommandException(MESSAGE_LIMIT_REACHED);
         }
@@ -87,13 +108,15 @@ public class AddStudentCommand extends StudentCommand {
             return false;
         }
 
-        return toAdd.equals(otherAddCommand.toAdd);
+        return toAdd.equals(otherAddCommand.toAdd)
+                && attendanceRecords.equals(otherAddCommand.attendanceRecords);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("toAdd", toAdd)
+                .add("attendanceRecords", attendanceRecords)
                 .toString();
     }
 }
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 
 import tutorly.model.AddressBook;
+import tutorly.model.AddressBookSnapshot;
 import tutorly.model.Model;
 import tutorly.model.ReadOnlyAddressBook;
 
@@ -40,7 +41,7 @@ public class ClearCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        ReadOnlyAddressBook currentAddressBook = new AddressBook(model.getAddressBook());
+        ReadOnlyAddressBook currentAddressBook = AddressBookSnapshot.of(model.getAddressBook());
         model.setAddressBook(addressBook.orElseGet(() -> new AddressBook()));
 
         return new CommandResult.Builder(addressBook.isPresent() ? MESSAGE_RESTORE_SUCCESS : MESSAGE_CLEAR_SUCCESS)
@@ -0,0 +1,55 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
+
+/**
+ * Deletes the attendance records of students and sessions that no longer exist, such as those left behind in data
+ * files saved before deleting a student or session also deleted their attendance records.
+ */
+public class CompactCommand extends Command {
+
+    public static final String COMMAND_WORD = "compact";
+    public static final String COMMAND_STRING = COMMAND_WORD;
+
+    public static final String MESSAGE_COMPACT_SUCCESS = "Deleted %1$d orphaned attendance records!";
+    public static final String MESSAGE_RESTORE_SUCCESS = "Restored %1$d orphaned attendance records!";
+
+    private final Optional<List<AttendanceRecord>> toRestore;
+
+    /**
+     * Creates a CompactCommand to restore the specified orphaned {@code attendanceRecords}.
+     */
+    public CompactCommand(List<AttendanceRecord> attendanceRecords) {
+        requireNonNull(attendanceRecords);
+        this.toRestore = Optional.of(List.copyOf(attendanceRecords));
+    }
+
+    /**
+     * Creates a CompactCommand to delete all orphaned attendance records.
+     */
+    public CompactCommand() {
+        this.toRestore = Optional.empty();
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        if (toRestore.isPresent()) {
+            model.batch(() -> toRestore.get().forEach(model::addAttendanceRecord));
+            return new CommandResult.Builder(String.format(MESSAGE_RESTORE_SUCCESS, toRestore.get().size())).build();
+        }
+
+        List<AttendanceRecord> removed = model.removeOrphanedAttendanceRecords();
+        return new CommandResult.Builder(String.format(MESSAGE_COMPACT_SUCCESS, removed.size()))
+                .withReverseCommand(new CompactCommand(removed))
+                .build();
+    }
+
+}
@@ -2,12 +2,14 @@ package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Optional;
 
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.logic.Messages;
 import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Person;
 import tutorly.ui.Tab;
@@ -42,10 +44,12 @@ public class DeleteStudentCommand extends StudentCommand {
             throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND);
         }
 
+        List<AttendanceRecord> attendanceRecords =
+                List.copyOf(model.getAddressBook().getStudentAttendanceRecords(toDelete.get().getId()));
         model.deletePerson(toDelete.get());
         return new CommandResult.Builder(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(toDelete.get())))
                 .withTab(Tab.student())
-                .withReverseCommand(new AddStudentCommand(toDelete.get()))
+                .withReverseCommand(new AddStudentCommand(toDelete.get(), attendanceRecords))
                 .build();
     }
 
@@ -1,14 +1,21 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
 
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.logic.Messages;
 import tutorly.model.Model;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.PersonRanker;
 import tutorly.model.person.Person;
 import tutorly.ui.Tab;
 
@@ -25,29 +32,59 @@ public class SearchStudentCommand extends StudentCommand {
     public static final String MESSAGE_USAGE = COMMAND_STRING
             + ": Searches for all students who attended a session or "
             + "whose fields contain any of the specified keywords (case-insensitive) and displays them as a list."
+            + " Fuzzy name keywords also match names with small spelling mistakes."
+            + " If a number of results is given, only the best matches are shown, best first."
             + "\nParameters: "
             + "[" + PREFIX_SESSION + "SESSION_ID] "
             + "[" + PREFIX_NAME + "NAME_KEYWORDS] "
-            + "[" + PREFIX_PHONE + "PHONE_KEYWORDS]"
+            + "[" + PREFIX_FUZZY_NAME + "FUZZY_NAME_KEYWORDS] "
+            + "[" + PREFIX_PHONE + "PHONE_KEYWORDS] "
+            + "[" + PREFIX_TOP + "NUMBER_OF_RESULTS]"
             + "\nExample: " + COMMAND_STRING + " " + PREFIX_SESSION + "1 " + PREFIX_NAME + "ali bob charli "
-            + PREFIX_PHONE + "9124 86192";
+            + PREFIX_PHONE + "9124 86192 " + PREFIX_TOP + "5";
 
     private final Filter<Person> filter;
+    private final PersonRanker ranker;
 
+    /**
+     * Creates a SearchStudentCommand that lists all persons satisfying {@code filter}.
+     */
     public SearchStudentCommand(Filter<Person> filter) {
+        this(filter, null);
+    }
+
+    /**
+     * Creates a SearchStudentCommand that lists the persons satisfying {@code filter} that {@code ranker} ranks best,
+     * best first. Lists all of them in address book order if {@code ranker} is null.
+     */
+    public SearchStudentCommand(Filter<Person> filter, PersonRanker ranker) {
         this.filter = filter;
+        this.ranker = ranker;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(filter);
+        if (ranker == null) {
+            model.updateFilteredPersonList(filter);
+        } else {
+            showRanked(model);
+        }
         return new CommandResult.Builder(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()))
                 .withTab(Tab.student())
                 .build();
     }
 
+    /**
+     * Shows only the best ranked persons satisfying the filter, in order of rank.
+     */
+    private void showRanked(Model model) {
+        Set<Person> ranked = new HashSet<>(
+                ranker.rank(model.getPersonList(), filter.toPredicate(model.getAddressBook())));
+        model.updateFilteredPersonList(addressBook -> ranked::contains, ranker.comparator());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -59,13 +96,15 @@ public class SearchStudentCommand extends StudentCommand {
             return false;
         }
 
-        return filter.equals(otherSearchCommand.filter);
+        return filter.equals(otherSearchCommand.filter)
+                && Objects.equals(ranker, otherSearchCommand.ranker);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("filter", filter)
+                .add("ranker", ranker)
                 .toString();
     }
 }
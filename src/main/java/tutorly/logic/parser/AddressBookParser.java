@@ -10,6 +10,7 @@ import java.util.regex.Pattern;
 import tutorly.commons.core.LogsCenter;
 import tutorly.logic.commands.ClearCommand;
 import tutorly.logic.commands.Command;
+import tutorly.logic.commands.CompactCommand;
 import tutorly.logic.commands.ExitCommand;
 import tutorly.logic.commands.HelpCommand;
 import tutorly.logic.commands.SessionCommand;
@@ -77,6 +78,9 @@ public class AddressBookParser implements Parser<Command> {
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
+        case CompactCommand.COMMAND_WORD:
+            return new CompactCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -7,11 +7,13 @@ public class CliSyntax {
 
     /* Prefix definitions for students */
     public static final Prefix PREFIX_NAME = new Prefix("n/");
+    public static final Prefix PREFIX_FUZZY_NAME = new Prefix("fn/");
     public static final Prefix PREFIX_PHONE = new Prefix("p/");
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_MEMO = new Prefix("m/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
 
     /* Prefix definitions for sessions */
     public static final Prefix PREFIX_DATE = new Prefix("d/");
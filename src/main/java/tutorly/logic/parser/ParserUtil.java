@@ -17,6 +17,7 @@ import java.util.Set;
 import tutorly.commons.util.StringUtil;
 import tutorly.logic.parser.exceptions.ParseException;
 import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.filter.PersonRanker;
 import tutorly.model.person.Address;
 import tutorly.model.person.Email;
 import tutorly.model.person.Identity;
@@ -83,6 +84,21 @@ public class ParserUtil {
         return Integer.parseInt(trimmedId);
     }
 
+    /**
+     * Parses {@code String limit} into the number of results to keep and returns it. Leading and trailing whitespaces
+     * will be trimmed.
+     *
+     * @throws ParseException if the specified limit is invalid (not non-zero unsigned integer).
+     */
+    public static int parseLimit(String limit) throws ParseException {
+        requireNonNull(limit);
+        String trimmedLimit = limit.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+            throw new ParseException(PersonRanker.MESSAGE_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedLimit);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -157,7 +173,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -281,7 +297,7 @@ public class ParserUtil {
         if (!Subject.isValidSubject(trimmedSubject)) {
             throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(trimmedSubject);
+        return Subject.of(trimmedSubject);
     }
 
     /**
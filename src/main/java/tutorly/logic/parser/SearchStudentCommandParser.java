@@ -1,9 +1,12 @@
 package tutorly.logic.parser;
 
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TOP;
+import static tutorly.logic.parser.ParserUtil.parseLimit;
 import static tutorly.logic.parser.ParserUtil.parseSessionId;
 
 import java.util.ArrayList;
@@ -16,6 +19,8 @@ import tutorly.logic.parser.exceptions.ParseException;
 import tutorly.model.filter.AttendSessionFilter;
 import tutorly.model.filter.Filter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.filter.NameSimilarToKeywordsFilter;
+import tutorly.model.filter.PersonRanker;
 import tutorly.model.filter.PhoneContainsKeywordsFilter;
 import tutorly.model.person.Person;
 
@@ -30,15 +35,42 @@ public class SearchStudentCommandParser implements Parser<SearchStudentCommand>
      * @throws ParseException if the user input does not conform the expected format
      */
     public SearchStudentCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SESSION, PREFIX_NAME, PREFIX_PHONE);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION, PREFIX_NAME, PREFIX_PHONE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SESSION, PREFIX_NAME, PREFIX_FUZZY_NAME,
+                PREFIX_PHONE, PREFIX_TOP);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION, PREFIX_NAME, PREFIX_FUZZY_NAME,
+                PREFIX_PHONE, PREFIX_TOP);
 
         if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchStudentCommand.MESSAGE_USAGE));
         }
 
-        return new SearchStudentCommand(initFilter(argMultimap));
+        return new SearchStudentCommand(initFilter(argMultimap), initRanker(argMultimap));
+    }
+
+    /**
+     * Initializes the ranker for the name and phone keywords using the given {@code ArgumentMultimap}, or returns null
+     * if no number of results is given.
+     */
+    private static PersonRanker initRanker(ArgumentMultimap argMultimap) throws ParseException {
+        Optional<String> limitQuery = argMultimap.getValue(PREFIX_TOP);
+        if (limitQuery.isEmpty()) {
+            return null;
+        }
+
+        int limit = parseLimit(limitQuery.get());
+        return new PersonRanker(getKeywords(argMultimap, PREFIX_NAME), getKeywords(argMultimap, PREFIX_FUZZY_NAME),
+                getKeywords(argMultimap, PREFIX_PHONE), limit);
+    }
+
+    /**
+     * Returns the keywords given for {@code prefix}, or an empty list if there are none.
+     */
+    private static List<String> getKeywords(ArgumentMultimap argMultimap, Prefix prefix) {
+        return argMultimap.getValue(prefix)
+                .filter(query -> !query.isBlank())
+                .map(query -> Arrays.asList(query.trim().split("\\s+")))
+                .orElse(List.of());
     }
 
     /**
@@ -59,6 +91,12 @@ public class SearchStudentCommandParser implements Parser<SearchStudentCommand>
             filters.add(new NameContainsKeywordsFilter(Arrays.asList(nameKeywords)));
         }
 
+        Optional<String> fuzzyNameQuery = argMultimap.getValue(PREFIX_FUZZY_NAME);
+        if (fuzzyNameQuery.isPresent() && !fuzzyNameQuery.get().isBlank()) {
+            String[] fuzzyNameKeywords = fuzzyNameQuery.get().trim().split("\\s+");
+            filters.add(new NameSimilarToKeywordsFilter(Arrays.asList(fuzzyNameKeywords)));
+        }
+
         Optional<String> phoneQuery = argMultimap.getValue(PREFIX_PHONE);
         if (phoneQuery.isPresent() && !phoneQuery.get().isBlank()) {
             String[] phoneKeywords = phoneQuery.get().trim().split("\\s+");
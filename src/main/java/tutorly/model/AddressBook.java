@@ -2,12 +2,17 @@ package tutorly.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookChange.Entity;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.attendancerecord.UniqueAttendanceRecordList;
 import tutorly.model.person.Name;
@@ -25,6 +30,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueSessionList sessions;
     private final UniqueAttendanceRecordList attendanceRecords;
+    private final ChangeJournal journal = new ChangeJournal();
 
     private int nextPersonId;
     private int nextSessionId;
@@ -37,6 +43,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         sessions = new UniqueSessionList();
         attendanceRecords = new UniqueAttendanceRecordList();
 
+        persons.addElementChangeListener((before, after) -> journal.record(Entity.PERSON, before, after));
+        sessions.addElementChangeListener((before, after) -> journal.record(Entity.SESSION, before, after));
+        attendanceRecords.addElementChangeListener((before, after) ->
+                journal.record(Entity.ATTENDANCE_RECORD, before, after));
+
         nextPersonId = 1;
         nextSessionId = 1;
     }
@@ -52,11 +63,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Creates an AddressBook using the ReadOnlyAddressBook in the {@code toBeCopied}
+     * Creates an AddressBook using the ReadOnlyAddressBook in the {@code toBeCopied}.
+     * The new AddressBook starts at version 0 with no changes.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        journal.clear();
     }
 
     //// list overwrite operations
@@ -98,6 +111,55 @@ public class AddressBook implements ReadOnlyAddressBook {
         nextSessionId = newData.getNextSessionId();
     }
 
+    /**
+     * Runs {@code action} as a single batch of modifications to this {@code AddressBook}.
+     * Listeners of each list are notified once, after {@code action} completes, of all modifications made to that list.
+     * If {@code action} throws an exception, this {@code AddressBook} is restored to its state before the batch and the
+     * exception is rethrown. Only the modifications made during the batch are undone, so restoring costs time
+     * proportional to the modifications rather than to the size of this {@code AddressBook}.
+     */
+    public void batch(Runnable action) {
+        requireNonNull(action);
+
+        int previousNextPersonId = nextPersonId;
+        int previousNextSessionId = nextSessionId;
+        persons.beginBatch();
+        sessions.beginBatch();
+        attendanceRecords.beginBatch();
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            attendanceRecords.undoBatch();
+            sessions.undoBatch();
+            persons.undoBatch();
+            nextPersonId = previousNextPersonId;
+            nextSessionId = previousNextSessionId;
+            throw e;
+        } finally {
+            attendanceRecords.endBatch();
+            sessions.endBatch();
+            persons.endBatch();
+        }
+    }
+
+    //// change tracking
+
+    /**
+     * Returns the version of this {@code AddressBook}, which increases by one with each change to a person, session or
+     * attendance record.
+     */
+    public long getVersion() {
+        return journal.getVersion();
+    }
+
+    /**
+     * Returns the changes made after {@code version} in the order they were made, or an empty optional if the changes
+     * are too old to be kept, in which case the caller should recompute from the current contents instead.
+     */
+    public Optional<List<AddressBookChange<?>>> getChangesSince(long version) {
+        return journal.getChangesSince(version);
+    }
+
     //// person-level operations
 
     /**
@@ -113,6 +175,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        assignPersonId(p);
+        persons.add(p);
+    }
+
+    /**
+     * Adds all persons in {@code persons} to the address book in bulk.
+     * The persons must not already exist in the address book and must not contain duplicate persons.
+     * This checks for duplicates and sorts the persons once, which is faster than adding them one by one.
+     * If there are duplicates, nothing is added and no persons are given IDs.
+     */
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons.requireCanAddAll(persons);
+
+        // Persons with IDs go first, so that the IDs given to the others are above all of them
+        Map<Boolean, List<Person>> hasId = persons.stream().collect(Collectors.partitioningBy(p -> p.getId() != 0));
+        hasId.get(true).forEach(this::assignPersonId);
+        hasId.get(false).forEach(this::assignPersonId);
+        this.persons.addAll(persons);
+    }
+
+    /**
+     * Sets the student ID of {@code p} if it has not been set, and ensures that the next student ID is unused.
+     */
+    private void assignPersonId(Person p) {
         if (p.getId() == 0) {
             // Set the student ID of the person if it has not been set
             if (nextPersonId >= Integer.MAX_VALUE) {
@@ -123,8 +210,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         } else if (p.getId() >= nextPersonId) {
             nextPersonId = p.getId() + 1;
         }
-
-        persons.add(p);
     }
 
     /**
@@ -152,11 +237,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook}, together with the attendance records of {@code key}.
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        requireNonNull(key);
+        List<AttendanceRecord> records = attendanceRecords.getStudentRecords(key.getId());
+        if (records.isEmpty()) {
+            persons.remove(key);
+            return;
+        }
+
+        batch(() -> {
+            attendanceRecords.removeAll(records);
+            persons.remove(key);
+        });
     }
 
     //// session-level operations
@@ -177,11 +272,44 @@ public class AddressBook implements ReadOnlyAddressBook {
         return sessions.hasOverlappingSession(toCheck);
     }
 
+    /**
+     * Returns the sessions in the address book that overlap with the session {@code toCheck}, ordered by start time.
+     */
+    public List<Session> getOverlappingSessions(Session toCheck) {
+        requireNonNull(toCheck);
+        return sessions.getOverlappingSessions(toCheck);
+    }
+
     /**
      * Adds a session to the address book.
      * The session must not already exist in the address book.
      */
     public void addSession(Session s) {
+        assignSessionId(s);
+        sessions.add(s);
+    }
+
+    /**
+     * Adds all sessions in {@code sessions} to the address book in bulk.
+     * The sessions must not already exist in the address book and must not contain duplicate sessions.
+     * This checks for duplicates and sorts the sessions once, which is faster than adding them one by one.
+     * If there are duplicates, nothing is added and no sessions are given IDs.
+     */
+    public void addSessions(List<Session> sessions) {
+        requireNonNull(sessions);
+
+        // Sessions are keyed by ID, so only those with IDs can be checked before the others are given IDs above them
+        Map<Boolean, List<Session>> hasId = sessions.stream().collect(Collectors.partitioningBy(s -> s.getId() != 0));
+        this.sessions.requireCanAddAll(hasId.get(true));
+        hasId.get(true).forEach(this::assignSessionId);
+        hasId.get(false).forEach(this::assignSessionId);
+        this.sessions.addAll(sessions);
+    }
+
+    /**
+     * Sets the session ID of {@code s} if it has not been set, and ensures that the next session ID is unused.
+     */
+    private void assignSessionId(Session s) {
         if (s.getId() == 0) {
             // Set the session ID of the session if it has not been set
             if (nextSessionId >= Integer.MAX_VALUE) {
@@ -192,8 +320,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         } else if (s.getId() >= nextSessionId) {
             nextSessionId = s.getId() + 1;
         }
-
-        sessions.add(s);
     }
 
     /**
@@ -214,11 +340,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Removes {@code session} from this {@code AddressBook}.
+     * Removes {@code session} from this {@code AddressBook}, together with the attendance records of {@code session}.
      * {@code session} must exist in the address book.
      */
     public void removeSession(Session session) {
-        sessions.remove(session);
+        requireNonNull(session);
+        List<AttendanceRecord> records = attendanceRecords.getSessionRecords(session.getId());
+        if (records.isEmpty()) {
+            sessions.remove(session);
+            return;
+        }
+
+        batch(() -> {
+            attendanceRecords.removeAll(records);
+            sessions.remove(session);
+        });
     }
 
     //// attendance record-level operations
@@ -239,6 +375,51 @@ public class AddressBook implements ReadOnlyAddressBook {
         return attendanceRecords.find(attendanceRecord);
     }
 
+    @Override
+    public Set<Integer> getSessionIdsOn(LocalDate date) {
+        requireNonNull(date);
+        return sessions.getSessionIdsOn(date);
+    }
+
+    @Override
+    public Set<Integer> getPersonIdsWithNameContaining(String keyword) {
+        requireNonNull(keyword);
+        return persons.getIdsWithNameContaining(keyword);
+    }
+
+    @Override
+    public Set<Integer> getPersonIdsWithNameSimilarTo(String keyword) {
+        requireNonNull(keyword);
+        return persons.getIdsWithNameSimilarTo(keyword);
+    }
+
+    @Override
+    public Set<Integer> getPersonIdsWithPhoneContaining(String keyword) {
+        requireNonNull(keyword);
+        return persons.getIdsWithPhoneContaining(keyword);
+    }
+
+    @Override
+    public Set<Integer> getSessionIdsWithSubjectContaining(String keyword) {
+        requireNonNull(keyword);
+        return sessions.getIdsWithSubjectContaining(keyword);
+    }
+
+    @Override
+    public Optional<AttendanceRecord> findAttendanceRecord(int studentId, int sessionId) {
+        return attendanceRecords.findRecord(studentId, sessionId);
+    }
+
+    @Override
+    public List<AttendanceRecord> getSessionAttendanceRecords(int sessionId) {
+        return attendanceRecords.getSessionRecords(sessionId);
+    }
+
+    @Override
+    public List<AttendanceRecord> getStudentAttendanceRecords(int studentId) {
+        return attendanceRecords.getStudentRecords(studentId);
+    }
+
     /**
      * Adds an attendance record to the address book.
      */
@@ -246,6 +427,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         attendanceRecords.add(attendanceRecord);
     }
 
+    /**
+     * Adds all attendance records in {@code attendanceRecords} to the address book in bulk.
+     * The records must not already exist in the address book and must not contain equivalent records.
+     * This checks for duplicates and sorts the records once, which is faster than adding them one by one.
+     */
+    public void addAttendanceRecords(List<AttendanceRecord> attendanceRecords) {
+        requireNonNull(attendanceRecords);
+        this.attendanceRecords.addAll(attendanceRecords);
+    }
+
     /**
      * Replaces the given attendance record {@code target} in the list with {@code editedAttendanceRecord}.
      * {@code target} must exist in the address book.
@@ -264,6 +455,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         attendanceRecords.remove(key);
     }
 
+    /**
+     * Removes the attendance records whose student or session is not in this {@code AddressBook}, and returns the
+     * removed records.
+     */
+    public List<AttendanceRecord> removeOrphanedAttendanceRecords() {
+        return attendanceRecords.removeIf(record -> persons.getPersonById(record.getStudentId()).isEmpty()
+                || sessions.getSessionById(record.getSessionId()).isEmpty());
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,114 @@
+package tutorly.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import tutorly.commons.util.ToStringBuilder;
+
+/**
+ * Represents a change to a single person, session or attendance record in an address book.
+ * Each change is labelled with the version of the address book that it produced. Versions increase by one with each
+ * change, so a consumer that has seen the address book at some version can catch up by applying the changes after it.
+ */
+public class AddressBookChange<T> {
+
+    /**
+     * The kind of element that was changed.
+     */
+    public enum Entity {
+        PERSON, SESSION, ATTENDANCE_RECORD
+    }
+
+    /**
+     * The way the element was changed.
+     */
+    public enum Operation {
+        ADD, UPDATE, REMOVE
+    }
+
+    private final long version;
+    private final Entity entity;
+    private final Optional<T> before;
+    private final Optional<T> after;
+
+    /**
+     * Creates a change that replaced {@code before} with {@code after}.
+     * {@code before} is null if {@code after} was added, and {@code after} is null if {@code before} was removed.
+     */
+    public AddressBookChange(long version, Entity entity, T before, T after) {
+        requireNonNull(entity);
+        if (before == null && after == null) {
+            throw new IllegalArgumentException("A change must have an element before or after it.");
+        }
+
+        this.version = version;
+        this.entity = entity;
+        this.before = Optional.ofNullable(before);
+        this.after = Optional.ofNullable(after);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Entity getEntity() {
+        return entity;
+    }
+
+    /**
+     * Returns the element before the change, or an empty optional if the element was added.
+     */
+    public Optional<T> getBefore() {
+        return before;
+    }
+
+    /**
+     * Returns the element after the change, or an empty optional if the element was removed.
+     */
+    public Optional<T> getAfter() {
+        return after;
+    }
+
+    public Operation getOperation() {
+        if (before.isEmpty()) {
+            return Operation.ADD;
+        } else if (after.isEmpty()) {
+            return Operation.REMOVE;
+        }
+        return Operation.UPDATE;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AddressBookChange<?> otherChange)) {
+            return false;
+        }
+
+        return version == otherChange.version
+                && entity == otherChange.entity
+                && before.equals(otherChange.before)
+                && after.equals(otherChange.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, entity, before, after);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("entity", entity)
+                .add("operation", getOperation())
+                .add("before", before)
+                .add("after", after)
+                .toString();
+    }
+}
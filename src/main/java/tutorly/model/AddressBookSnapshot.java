@@ -0,0 +1,244 @@
+package tutorly.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
+import tutorly.commons.util.ObservableListUtil;
+import tutorly.commons.util.StringUtil;
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+import tutorly.model.uniquelist.IntHashMap;
+
+/**
+ * An immutable copy of the contents of an address book, used to restore the address book later.
+ * Unlike {@code AddressBook}, a snapshot only holds references to the persons, sessions and attendance records, which
+ * are shared with the address book it was taken from, and builds no indexes up front. Taking a snapshot therefore
+ * costs one reference per element, instead of a second copy of every list and index.
+ * The attendance records are kept sorted by student ID and then by session ID, as an address book keeps them, so a
+ * record and the records of a student are found by binary search. The records of each session are grouped on first
+ * use. Keyword lookups scan the lists, as a snapshot builds no search indexes.
+ * <p>
+ * As a snapshot is never modified, it can be read from any thread once it has been safely published.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private static final Comparator<AttendanceRecord> RECORD_ORDER = Comparator
+            .comparingInt(AttendanceRecord::getStudentId).thenComparingInt(AttendanceRecord::getSessionId);
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Session> sessions;
+    private final ObservableList<AttendanceRecord> attendanceRecords;
+    private volatile IntHashMap<List<AttendanceRecord>> sessionAttendanceRecords;
+    private final int nextPersonId;
+    private final int nextSessionId;
+    private final long version;
+
+    private AddressBookSnapshot(ReadOnlyAddressBook addressBook, long version) {
+        persons = copyOf(addressBook.getPersonList());
+        sessions = copyOf(addressBook.getSessionList());
+        attendanceRecords = copyOf(sortedRecords(addressBook.getAttendanceRecordsList()));
+        nextPersonId = addressBook.getNextPersonId();
+        nextSessionId = addressBook.getNextSessionId();
+        this.version = version;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot snapshot) {
+            // Snapshots are immutable, so they can be shared
+            return snapshot;
+        }
+        return new AddressBookSnapshot(addressBook, 0);
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}, labelled with the given {@code version}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook, long version) {
+        requireNonNull(addressBook);
+        return new AddressBookSnapshot(addressBook, version);
+    }
+
+    /**
+     * Returns {@code records} sorted by student ID and then by session ID, without copying them if they already are.
+     */
+    private static List<AttendanceRecord> sortedRecords(List<AttendanceRecord> records) {
+        for (int i = 1; i < records.size(); i++) {
+            if (RECORD_ORDER.compare(records.get(i - 1), records.get(i)) > 0) {
+                return records.stream().sorted(RECORD_ORDER).toList();
+            }
+        }
+        return records;
+    }
+
+    private static <T> ObservableList<T> copyOf(List<T> list) {
+        ObservableList<T> copy = ObservableListUtil.arrayList();
+        copy.setAll(list);
+        return ObservableListUtil.unmodifiableList(copy);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Session> getSessionList() {
+        return sessions;
+    }
+
+    @Override
+    public ObservableList<AttendanceRecord> getAttendanceRecordsList() {
+        return attendanceRecords;
+    }
+
+    @Override
+    public Set<Integer> getSessionIdsOn(LocalDate date) {
+        requireNonNull(date);
+        return sessions.stream().filter(session -> session.containsDate(date)).map(Session::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Set<Integer> getPersonIdsWithNameContaining(String keyword) {
+        String loweredKeyword = keyword.trim().toLowerCase();
+        return persons.stream()
+                .filter(person -> StringUtil.anyTokenContains(
+                        person.getName().getSearchTokens(), loweredKeyword))
+                .map(Person::getId).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Set<Integer> getPersonIdsWithNameSimilarTo(String keyword) {
+        String loweredKeyword = keyword.trim().toLowerCase();
+        return persons.stream()
+                .filter(person -> StringUtil.anyTokenSimilar(
+                        person.getName().getSearchTokens(), loweredKeyword))
+                .map(Person::getId).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Set<Integer> getPersonIdsWithPhoneContaining(String keyword) {
+        String loweredKeyword = keyword.trim().toLowerCase();
+        return persons.stream()
+                .filter(person -> StringUtil.anyTokenContains(
+                        person.getPhone().getSearchTokens(), loweredKeyword))
+                .map(Person::getId).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Set<Integer> getSessionIdsWithSubjectContaining(String keyword) {
+        String loweredKeyword = keyword.trim().toLowerCase();
+        return sessions.stream()
+                .filter(session -> StringUtil.anyTokenContains(
+                        session.getSubject().getSearchTokens(), loweredKeyword))
+                .map(Session::getId).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Optional<AttendanceRecord> findAttendanceRecord(int studentId, int sessionId) {
+        int index = lowerBound(studentId, sessionId);
+        if (index == attendanceRecords.size()) {
+            return Optional.empty();
+        }
+
+        AttendanceRecord record = attendanceRecords.get(index);
+        return record.getStudentId() == studentId && record.getSessionId() == sessionId
+                ? Optional.of(record)
+                : Optional.empty();
+    }
+
+    @Override
+    public List<AttendanceRecord> getSessionAttendanceRecords(int sessionId) {
+        IntHashMap<List<AttendanceRecord>> recordsBySession = sessionAttendanceRecords;
+        if (recordsBySession == null) {
+            // Grouping the same records again on another thread is harmless, so no lock is needed
+            recordsBySession = new IntHashMap<>();
+            for (AttendanceRecord record : attendanceRecords) {
+                List<AttendanceRecord> records = recordsBySession.get(record.getSessionId());
+                if (records == null) {
+                    records = new ArrayList<>();
+                    recordsBySession.put(record.getSessionId(), records);
+                }
+                records.add(record);
+            }
+            sessionAttendanceRecords = recordsBySession;
+        }
+
+        List<AttendanceRecord> records = recordsBySession.get(sessionId);
+        return records == null ? List.of() : Collections.unmodifiableList(records);
+    }
+
+    @Override
+    public List<AttendanceRecord> getStudentAttendanceRecords(int studentId) {
+        int from = lowerBound(studentId, Integer.MIN_VALUE);
+        int to = studentId == Integer.MAX_VALUE
+                ? attendanceRecords.size()
+                : lowerBound(studentId + 1, Integer.MIN_VALUE);
+        return attendanceRecords.subList(from, to);
+    }
+
+    /**
+     * Returns the position of the first attendance record that is not before the record of the student with
+     * {@code studentId} for the session with {@code sessionId}.
+     */
+    private int lowerBound(int studentId, int sessionId) {
+        int low = 0;
+        int high = attendanceRecords.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            AttendanceRecord record = attendanceRecords.get(mid);
+            int order = record.getStudentId() != studentId
+                    ? Integer.compare(record.getStudentId(), studentId)
+                    : Integer.compare(record.getSessionId(), sessionId);
+            if (order < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public int getNextPersonId() {
+        return nextPersonId;
+    }
+
+    @Override
+    public int getNextSessionId() {
+        return nextSessionId;
+    }
+
+    /**
+     * Returns the version of the address book that this snapshot was taken of.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("sessions", sessions)
+                .add("attendanceRecords", attendanceRecords)
+                .add("version", version)
+                .toString();
+    }
+
+}
@@ -0,0 +1,82 @@
+package tutorly.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import tutorly.model.AddressBookChange.Entity;
+
+/**
+ * A journal of the latest changes to an address book, used by {@code AddressBook} to track its version.
+ * Only the latest changes up to a fixed capacity are kept, so that the journal does not grow with the lifetime of the
+ * address book. Consumers that fall further behind must recompute from the address book itself.
+ */
+class ChangeJournal {
+
+    static final int DEFAULT_CAPACITY = 4096;
+
+    private final int capacity;
+    private final Deque<AddressBookChange<?>> changes = new ArrayDeque<>();
+    private long version;
+
+    ChangeJournal() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    ChangeJournal(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records a change to an element of the given {@code entity}, and advances the version.
+     */
+    <T> void record(Entity entity, T before, T after) {
+        changes.addLast(new AddressBookChange<>(++version, entity, before, after));
+        if (changes.size() > capacity) {
+            changes.removeFirst();
+        }
+    }
+
+    /**
+     * Returns the version of the latest change, or 0 if there have been no changes.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes after {@code sinceVersion} in the order they were made, or an empty optional if some of
+     * those changes are no longer in the journal.
+     */
+    Optional<List<AddressBookChange<?>>> getChangesSince(long sinceVersion) {
+        if (sinceVersion >= version) {
+            return Optional.of(List.of());
+        }
+
+        long count = version - sinceVersion;
+        if (count > changes.size()) {
+            return Optional.empty();
+        }
+
+        // Walk back from the latest change, so that catching up costs time proportional to the changes missed
+        List<AddressBookChange<?>> missed = new ArrayList<>((int) count);
+        Iterator<AddressBookChange<?>> iterator = changes.descendingIterator();
+        for (long i = 0; i < count; i++) {
+            missed.add(iterator.next());
+        }
+        Collections.reverse(missed);
+        return Optional.of(Collections.unmodifiableList(missed));
+    }
+
+    /**
+     * Forgets all changes and restarts the versions from 0.
+     */
+    void clear() {
+        changes.clear();
+        version = 0;
+    }
+}
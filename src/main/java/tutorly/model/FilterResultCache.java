@@ -0,0 +1,281 @@
+package tutorly.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import tutorly.model.AddressBookChange.Entity;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.filter.Filter;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+import tutorly.model.uniquelist.IntIntHashMap;
+
+/**
+ * A least recently used cache of the IDs of the elements of an address book that satisfy each {@code Filter}, used by
+ * {@code ModelManager} so that switching back to a recent search does not test every element again.
+ * <p>
+ * Each entry remembers the address book version it was computed at. When the address book has changed since, the
+ * entry is patched by testing again only the elements changed after that version, as told by the address book's change
+ * journal. Filters are assumed to depend only on the element itself and its attendance records, so a changed
+ * attendance record only affects its student or session. Any other change, or a journal that no longer reaches back
+ * far enough, causes the entry to be computed again from scratch.
+ * <p>
+ * IDs are numbered densely by the cache in the order it first sees them, and each entry keeps a bit set of those
+ * numbers rather than of the IDs themselves, however large or sparse the IDs are. Removed elements keep their numbers
+ * until most of the numbers in use belong to removed elements, at which point the elements of the address book are
+ * numbered again and the entries translated. So the numbers, and an entry, take space proportional to the number of
+ * elements in the address book.
+ */
+class FilterResultCache<T> {
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    // The fewest numbers in use for which the elements are numbered again
+    private static final int MIN_RENUMBER_SIZE = 64;
+
+    private final Entity entity;
+    private final Function<AddressBook, List<T>> getElements;
+    private final BiFunction<AddressBook, Integer, Optional<T>> getElementById;
+    private final ToIntFunction<T> getId;
+    private final ToIntFunction<AttendanceRecord> getAttendanceRecordId;
+    private final Map<Filter<T>, Entry> entries;
+
+    // The dense number of each ID seen, and the ID of each number
+    private IntIntHashMap slots = new IntIntHashMap();
+    private int[] idsBySlot = new int[16];
+
+    private FilterResultCache(int capacity, Entity entity, Function<AddressBook, List<T>> getElements,
+            BiFunction<AddressBook, Integer, Optional<T>> getElementById, ToIntFunction<T> getId,
+            ToIntFunction<AttendanceRecord> getAttendanceRecordId) {
+        this.entity = entity;
+        this.getElements = getElements;
+        this.getElementById = getElementById;
+        this.getId = getId;
+        this.getAttendanceRecordId = getAttendanceRecordId;
+        this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Filter<T>, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Creates an empty cache of the persons satisfying each filter, holding at most {@code capacity} filters.
+     */
+    static FilterResultCache<Person> forPersons(int capacity) {
+        return new FilterResultCache<>(capacity, Entity.PERSON, AddressBook::getPersonList,
+                AddressBook::getPersonById, Person::getId, AttendanceRecord::getStudentId);
+    }
+
+    /**
+     * Creates an empty cache of the sessions satisfying each filter, holding at most {@code capacity} filters.
+     */
+    static FilterResultCache<Session> forSessions(int capacity) {
+        return new FilterResultCache<>(capacity, Entity.SESSION, AddressBook::getSessionList,
+                AddressBook::getSessionById, Session::getId, AttendanceRecord::getSessionId);
+    }
+
+    /**
+     * A set of the slots of matching IDs, as of a version of the address book.
+     */
+    private static class Entry {
+        private BitSet slots;
+        private long version;
+
+        private Entry(BitSet slots, long version) {
+            this.slots = slots;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code filter.toPredicate(addressBook)}.
+     * Until {@code addressBook} next changes, it is answered from the cached IDs. After that, it falls back to the
+     * predicate of the filter itself, which is only built then.
+     */
+    Predicate<T> toPredicate(Filter<T> filter, AddressBook addressBook) {
+        requireNonNull(filter);
+        requireNonNull(addressBook);
+
+        BitSet matchingSlots = getEntry(filter, addressBook).slots;
+        IntIntHashMap slotsAtVersion = slots;
+        long version = addressBook.getVersion();
+        return new Predicate<>() {
+            private Predicate<T> fallback;
+
+            @Override
+            public boolean test(T t) {
+                if (addressBook.getVersion() == version) {
+                    // Every element of this version has been seen, so one without a slot cannot be in the address book
+                    int slot = slotsAtVersion.get(getId.applyAsInt(t));
+                    return slot >= 0 && matchingSlots.get(slot);
+                }
+                if (fallback == null) {
+                    fallback = filter.toPredicate(addressBook);
+                }
+                return fallback.test(t);
+            }
+        };
+    }
+
+    /**
+     * Returns the IDs of the elements of {@code addressBook} that satisfy {@code filter}.
+     */
+    Set<Integer> getMatchingIds(Filter<T> filter, AddressBook addressBook) {
+        BitSet matchingSlots = getEntry(filter, addressBook).slots;
+        Set<Integer> ids = new HashSet<>();
+        for (int slot = matchingSlots.nextSetBit(0); slot >= 0; slot = matchingSlots.nextSetBit(slot + 1)) {
+            ids.add(idsBySlot[slot]);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the number of filters cached.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of IDs currently numbered by the cache.
+     */
+    int getSlotCount() {
+        return slots.size();
+    }
+
+    /**
+     * Returns the entry for {@code filter}, brought up to the current version of {@code addressBook}.
+     */
+    private Entry getEntry(Filter<T> filter, AddressBook addressBook) {
+        List<T> elements = getElements.apply(addressBook);
+        if (slots.size() >= MIN_RENUMBER_SIZE && slots.size() > 2 * elements.size()) {
+            renumber(elements);
+        }
+
+        long version = addressBook.getVersion();
+        Entry entry = entries.get(filter);
+        if (entry == null || !patch(entry, filter, addressBook)) {
+            entry = new Entry(computeMatchingSlots(filter, addressBook), version);
+            entries.put(filter, entry);
+        }
+        return entry;
+    }
+
+    private BitSet computeMatchingSlots(Filter<T> filter, AddressBook addressBook) {
+        Predicate<T> predicate = filter.toPredicate(addressBook);
+        BitSet matchingSlots = new BitSet();
+        for (T element : getElements.apply(addressBook)) {
+            int slot = getSlot(getId.applyAsInt(element));
+            if (predicate.test(element)) {
+                matchingSlots.set(slot);
+            }
+        }
+        return matchingSlots;
+    }
+
+    /**
+     * Numbers {@code elements} again from zero, dropping the numbers of all other IDs, and translates the entries to
+     * the new numbers. The numbers and bit sets in use are replaced rather than changed, so predicates from
+     * {@link #toPredicate(Filter, AddressBook)} keep working.
+     * <p>
+     * An entry at an earlier version may have matched an element that is no longer in the address book. Dropping it is
+     * safe, as the removal of the element is either in the changes the entry is patched with, which tests it again,
+     * or the entry is computed again.
+     */
+    private void renumber(List<T> elements) {
+        int[] oldIdsBySlot = idsBySlot;
+        slots = new IntIntHashMap();
+        idsBySlot = new int[Math.max(16, elements.size())];
+        for (T element : elements) {
+            getSlot(getId.applyAsInt(element));
+        }
+
+        for (Entry entry : entries.values()) {
+            BitSet renumbered = new BitSet(slots.size());
+            for (int slot = entry.slots.nextSetBit(0); slot >= 0; slot = entry.slots.nextSetBit(slot + 1)) {
+                int newSlot = slots.get(oldIdsBySlot[slot]);
+                if (newSlot >= 0) {
+                    renumbered.set(newSlot);
+                }
+            }
+            entry.slots = renumbered;
+        }
+    }
+
+    /**
+     * Returns the slot of {@code id}, numbering it next if it has not been seen before.
+     */
+    private int getSlot(int id) {
+        int slot = slots.get(id);
+        if (slot >= 0) {
+            return slot;
+        }
+
+        int newSlot = slots.size();
+        if (newSlot == idsBySlot.length) {
+            idsBySlot = Arrays.copyOf(idsBySlot, newSlot * 2);
+        }
+        idsBySlot[newSlot] = id;
+        slots.put(id, newSlot);
+        return newSlot;
+    }
+
+    /**
+     * Brings {@code entry} up to the current version of {@code addressBook} by testing again the elements changed since
+     * its version. Returns false if it cannot be patched and must be computed again instead.
+     */
+    private boolean patch(Entry entry, Filter<T> filter, AddressBook addressBook) {
+        long version = addressBook.getVersion();
+        if (entry.version == version) {
+            return true;
+        }
+
+        Optional<List<AddressBookChange<?>>> changes = addressBook.getChangesSince(entry.version);
+        if (changes.isEmpty() || changes.get().size() > getElements.apply(addressBook).size()) {
+            return false;
+        }
+
+        BitSet changedSlots = new BitSet();
+        for (AddressBookChange<?> change : changes.get()) {
+            Object element = getChangedElement(change);
+            if (change.getEntity() == entity) {
+                @SuppressWarnings("unchecked")
+                T changed = (T) element;
+                changedSlots.set(getSlot(getId.applyAsInt(changed)));
+            } else if (change.getEntity() == Entity.ATTENDANCE_RECORD) {
+                changedSlots.set(getSlot(getAttendanceRecordId.applyAsInt((AttendanceRecord) element)));
+            } else {
+                return false;
+            }
+        }
+
+        Predicate<T> predicate = filter.toPredicate(addressBook);
+        for (int slot = changedSlots.nextSetBit(0); slot >= 0; slot = changedSlots.nextSetBit(slot + 1)) {
+            Optional<T> element = getElementById.apply(addressBook, idsBySlot[slot]);
+            entry.slots.set(slot, element.isPresent() && predicate.test(element.get()));
+        }
+        entry.version = version;
+        return true;
+    }
+
+    /**
+     * Returns the element after {@code change}, or the element before it if it was removed.
+     */
+    private static <E> E getChangedElement(AddressBookChange<E> change) {
+        return change.getAfter().orElseGet(() -> change.getBefore().orElseThrow());
+    }
+}
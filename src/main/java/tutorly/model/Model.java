@@ -1,6 +1,8 @@
 package tutorly.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
@@ -66,13 +68,39 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns the version of the address book, which increases by one with each change to a person, session or
+     * attendance record.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the changes made to the address book after {@code version} in the order they were made, or an empty
+     * optional if the changes are too old to be kept.
+     */
+    Optional<List<AddressBookChange<?>>> getAddressBookChangesSince(long version);
+
+    /**
+     * Returns an immutable snapshot of the current address book, which can then be handed to and read from any thread.
+     * A new snapshot is only taken if the address book has changed since the last one was taken, so only readers that
+     * need one pay for copying the address book. Must be called from the thread that modifies the address book.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Runs {@code action} as a single batch of modifications to the address book, so that each list of the address
+     * book notifies its listeners at most once. If {@code action} throws an exception, the address book is restored to
+     * its state before the batch and the exception is rethrown.
+     */
+    void batch(Runnable action);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
     /**
-     * Deletes the given person.
+     * Deletes the given person, together with their attendance records.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
@@ -137,6 +165,14 @@ public interface Model {
      */
     void updateFilteredPersonList(Filter<Person> filter);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code filter}, and orders the persons
+     * in it by {@code comparator}.
+     *
+     * @throws NullPointerException if {@code filter} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Filter<Person> filter, Comparator<Person> comparator);
+
     /**
      * Updates the filter of the filtered session list to filter by the given {@code filter}.
      *
@@ -154,6 +190,11 @@ public interface Model {
      */
     boolean hasOverlappingSession(Session toCreate);
 
+    /**
+     * Returns the existing sessions that have overlapping timeslots with the given session, ordered by start time.
+     */
+    List<Session> getOverlappingSessions(Session toCheck);
+
     /**
      * Adds the given session.
      * {@code session} must not already exist in the address book.
@@ -161,7 +202,7 @@ public interface Model {
     void addSession(Session toCreate);
 
     /**
-     * Deletes the given session.
+     * Deletes the given session, together with its attendance records.
      * {@code session} must already exist in the address book.
      */
     void deleteSession(Session target);
@@ -201,6 +242,12 @@ public interface Model {
      */
     void removeAttendanceRecord(AttendanceRecord record);
 
+    /**
+     * Deletes the attendance records whose student or session does not exist in the address book, and returns the
+     * deleted records.
+     */
+    List<AttendanceRecord> removeOrphanedAttendanceRecords();
+
     /* Replaces the given AttendanceRecord {@code target} with {@code editedRecord}.
      * {@code target} must exist in the address book.
      * The AttendanceRecord {@code editedRecord} must not be equivalent to another existing record.
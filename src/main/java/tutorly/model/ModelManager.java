@@ -4,11 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import tutorly.commons.core.GuiSettings;
 import tutorly.commons.core.LogsCenter;
 import tutorly.model.attendancerecord.AttendanceRecord;
@@ -27,7 +30,15 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Session> filteredSessions;
+    private final FilterResultCache<Person> personSearchCache =
+            FilterResultCache.forPersons(FilterResultCache.DEFAULT_CAPACITY);
+    private final FilterResultCache<Session> sessionSearchCache =
+            FilterResultCache.forSessions(FilterResultCache.DEFAULT_CAPACITY);
+
+    // The last snapshot taken, or null if none has been taken yet
+    private AddressBookSnapshot snapshot;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,6 +51,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredSessions = new FilteredList<>(this.addressBook.getSessionList());
     }
 
@@ -94,6 +106,31 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public Optional<List<AddressBookChange<?>>> getAddressBookChangesSince(long version) {
+        return addressBook.getChangesSince(version);
+    }
+
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        long version = addressBook.getVersion();
+        if (snapshot == null || snapshot.getVersion() != version) {
+            snapshot = AddressBookSnapshot.of(addressBook, version);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void batch(Runnable action) {
+        requireNonNull(action);
+        addressBook.batch(action);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -148,7 +185,7 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
@@ -169,13 +206,27 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Filter<Person> filter) {
         requireNonNull(filter);
+        sortedPersons.setComparator(null);
+        filteredPersons.setPredicate(filter == FILTER_SHOW_ALL_PERSONS
+                ? filter.toPredicate(addressBook)
+                : personSearchCache.toPredicate(filter, addressBook));
+    }
+
+    @Override
+    public void updateFilteredPersonList(Filter<Person> filter, Comparator<Person> comparator) {
+        requireAllNonNull(filter, comparator);
+        // The previous comparator may not be able to order the persons that pass the new filter
+        sortedPersons.setComparator(null);
         filteredPersons.setPredicate(filter.toPredicate(getAddressBook()));
+        sortedPersons.setComparator(comparator);
     }
 
     @Override
     public void updateFilteredSessionList(Filter<Session> filter) {
         requireNonNull(filter);
-        filteredSessions.setPredicate(filter.toPredicate(getAddressBook()));
+        filteredSessions.setPredicate(filter == FILTER_SHOW_ALL_SESSIONS
+                ? filter.toPredicate(addressBook)
+                : sessionSearchCache.toPredicate(filter, addressBook));
     }
 
     @Override
@@ -190,6 +241,12 @@ public class ModelManager implements Model {
         return addressBook.hasOverlappingSession(toCreate);
     }
 
+    @Override
+    public List<Session> getOverlappingSessions(Session toCheck) {
+        requireNonNull(toCheck);
+        return addressBook.getOverlappingSessions(toCheck);
+    }
+
     @Override
     public void addSession(Session toCreate) {
         requireAllNonNull(toCreate);
@@ -236,6 +293,11 @@ public class ModelManager implements Model {
         addressBook.removeAttendanceRecord(record);
     }
 
+    @Override
+    public List<AttendanceRecord> removeOrphanedAttendanceRecords() {
+        return addressBook.removeOrphanedAttendanceRecords();
+    }
+
     @Override
     public void setAttendanceRecord(AttendanceRecord target, AttendanceRecord editedRecord) {
         requireAllNonNull(target, editedRecord);
@@ -256,7 +318,7 @@ public class ModelManager implements Model {
 
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && filteredSessions.equals(otherModelManager.filteredSessions);
     }
 
@@ -1,5 +1,10 @@
 package tutorly.model;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 import javafx.collections.ObservableList;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Person;
@@ -26,6 +31,52 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<AttendanceRecord> getAttendanceRecordsList();
 
+    /**
+     * Returns an unmodifiable view of the IDs of the sessions that fall on the given date.
+     */
+    Set<Integer> getSessionIdsOn(LocalDate date);
+
+    /**
+     * Returns an unmodifiable view of the IDs of the persons with a word in their name that contains {@code keyword},
+     * ignoring case.
+     */
+    Set<Integer> getPersonIdsWithNameContaining(String keyword);
+
+    /**
+     * Returns an unmodifiable view of the IDs of the persons with a word in their name that is within a few edits of
+     * {@code keyword}, ignoring case.
+     */
+    Set<Integer> getPersonIdsWithNameSimilarTo(String keyword);
+
+    /**
+     * Returns an unmodifiable view of the IDs of the persons with a word in their phone number that contains
+     * {@code keyword}.
+     */
+    Set<Integer> getPersonIdsWithPhoneContaining(String keyword);
+
+    /**
+     * Returns an unmodifiable view of the IDs of the sessions with a word in their subject that contains
+     * {@code keyword}, ignoring case.
+     */
+    Set<Integer> getSessionIdsWithSubjectContaining(String keyword);
+
+    /**
+     * Returns the attendance record of the student with {@code studentId} for the session with {@code sessionId}.
+     */
+    Optional<AttendanceRecord> findAttendanceRecord(int studentId, int sessionId);
+
+    /**
+     * Returns the attendance records of the session with {@code sessionId}.
+     * The returned list may be a view that must not be used after the address book is next modified.
+     */
+    List<AttendanceRecord> getSessionAttendanceRecords(int sessionId);
+
+    /**
+     * Returns the attendance records of the student with {@code studentId}.
+     * The returned list may be a view that must not be used after the address book is next modified.
+     */
+    List<AttendanceRecord> getStudentAttendanceRecords(int studentId);
+
     /**
      * Returns the next person ID.
      */
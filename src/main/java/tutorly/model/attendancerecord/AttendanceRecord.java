@@ -2,6 +2,8 @@ package tutorly.model.attendancerecord;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+
 import tutorly.commons.util.ToStringBuilder;
 
 /**
@@ -79,6 +81,11 @@ public class AttendanceRecord {
                 && feedback.equals(otherRecord.feedback);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, sessionId, isPresent, feedback);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
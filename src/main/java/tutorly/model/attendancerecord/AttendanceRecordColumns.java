@@ -0,0 +1,199 @@
+package tutorly.model.attendancerecord;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+
+import tutorly.model.uniquelist.LongHashMap;
+
+/**
+ * A list of attendance records that stores each column of the records in its own array instead of keeping the records
+ * as objects, and creates a record on demand each time one is read.
+ * The student IDs and session IDs are kept in {@code int} arrays, and whether each student was present in a bit set
+ * packed into a {@code long} array. Most records have empty feedback, so only the non-empty feedback is kept, in a map
+ * keyed by the student ID and session ID of its record.
+ * <p>
+ * A record takes about 8 bytes, instead of the 32 bytes of an {@code AttendanceRecord} object and the reference to it.
+ * The records read are equal to the records stored, but not the same objects.
+ * <p>
+ * The list does not enforce an order. {@link #indexOf(int, int)} and {@link #lowerBound(int)} may only be used while
+ * the records are sorted by student ID and then by session ID.
+ */
+class AttendanceRecordColumns extends AbstractList<AttendanceRecord> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] studentIds = new int[INITIAL_CAPACITY];
+    private int[] sessionIds = new int[INITIAL_CAPACITY];
+    private long[] presence = new long[toWordCount(INITIAL_CAPACITY)];
+    private final LongHashMap<Feedback> feedbacks = new LongHashMap<>();
+    private int size;
+
+    @Override
+    public AttendanceRecord get(int index) {
+        Objects.checkIndex(index, size);
+        Feedback feedback = feedbacks.get(toKey(studentIds[index], sessionIds[index]));
+        return new AttendanceRecord(studentIds[index], sessionIds[index], isPresent(index),
+                feedback == null ? Feedback.empty() : feedback);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void add(int index, AttendanceRecord record) {
+        requireNonNull(record);
+        Objects.checkIndex(index, size + 1);
+
+        if (size == studentIds.length) {
+            int capacity = size * 2;
+            studentIds = Arrays.copyOf(studentIds, capacity);
+            sessionIds = Arrays.copyOf(sessionIds, capacity);
+            presence = Arrays.copyOf(presence, toWordCount(capacity));
+        }
+
+        System.arraycopy(studentIds, index, studentIds, index + 1, size - index);
+        System.arraycopy(sessionIds, index, sessionIds, index + 1, size - index);
+        shiftPresenceUp(index);
+        size++;
+        modCount++;
+        write(index, record);
+    }
+
+    @Override
+    public AttendanceRecord set(int index, AttendanceRecord record) {
+        requireNonNull(record);
+        AttendanceRecord replaced = get(index);
+        feedbacks.remove(toKey(replaced.getStudentId(), replaced.getSessionId()));
+        write(index, record);
+        return replaced;
+    }
+
+    @Override
+    public AttendanceRecord remove(int index) {
+        AttendanceRecord removed = get(index);
+        feedbacks.remove(toKey(removed.getStudentId(), removed.getSessionId()));
+
+        System.arraycopy(studentIds, index + 1, studentIds, index, size - index - 1);
+        System.arraycopy(sessionIds, index + 1, sessionIds, index, size - index - 1);
+        shiftPresenceDown(index);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(presence, 0);
+        feedbacks.clear();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the position of the record of the student with {@code studentId} for the session with
+     * {@code sessionId}, or {@code -(insertion point) - 1} if there is no such record.
+     */
+    int indexOf(int studentId, int sessionId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int order = studentIds[mid] != studentId
+                    ? Integer.compare(studentIds[mid], studentId)
+                    : Integer.compare(sessionIds[mid], sessionId);
+            if (order < 0) {
+                low = mid + 1;
+            } else if (order > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the position of the first record whose student ID is not less than {@code studentId}.
+     */
+    int lowerBound(int studentId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (studentIds[mid] < studentId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Writes the columns of {@code record} into the row at {@code index}.
+     */
+    private void write(int index, AttendanceRecord record) {
+        studentIds[index] = record.getStudentId();
+        sessionIds[index] = record.getSessionId();
+        setPresent(index, record.getAttendance());
+        if (!record.getFeedback().equals(Feedback.empty())) {
+            feedbacks.put(toKey(record.getStudentId(), record.getSessionId()), record.getFeedback());
+        }
+    }
+
+    private boolean isPresent(int index) {
+        return (presence[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private void setPresent(int index, boolean isPresent) {
+        if (isPresent) {
+            presence[index >>> 6] |= 1L << index;
+        } else {
+            presence[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Moves the presence bits at {@code index} and above up by one position, leaving the bit at {@code index} clear.
+     * The capacity must allow for one more record.
+     */
+    private void shiftPresenceUp(int index) {
+        int word = index >>> 6;
+        for (int i = size >>> 6; i > word; i--) {
+            presence[i] = (presence[i] << 1) | (presence[i - 1] >>> 63);
+        }
+
+        long below = (1L << index) - 1; // the bits of the word below index, as shifts are taken modulo 64
+        presence[word] = (presence[word] & below) | ((presence[word] & ~below) << 1);
+    }
+
+    /**
+     * Moves the presence bits above {@code index} down by one position, overwriting the bit at {@code index}.
+     */
+    private void shiftPresenceDown(int index) {
+        int word = index >>> 6;
+        long below = (1L << index) - 1; // the bits of the word below index, as shifts are taken modulo 64
+        presence[word] = (presence[word] & below) | ((presence[word] >>> 1) & ~below);
+
+        for (int i = word; i < (size - 1) >>> 6; i++) {
+            presence[i] |= presence[i + 1] << 63;
+            presence[i + 1] >>>= 1;
+        }
+    }
+
+    private static int toWordCount(int capacity) {
+        return (capacity + 63) >>> 6;
+    }
+
+    /**
+     * Returns the student ID and session ID packed into a single {@code long}.
+     */
+    private static long toKey(int studentId, int sessionId) {
+        return ((long) studentId << Integer.SIZE) | Integer.toUnsignedLong(sessionId);
+    }
+}
@@ -0,0 +1,130 @@
+package tutorly.model.attendancerecord;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import tutorly.model.uniquelist.IntHashMap;
+
+/**
+ * A list of attendance records that keeps its records in columns of primitives instead of as objects, for large lists
+ * that are kept far longer than they are read, such as the attendance history of a long-running tutoring centre.
+ * Behaves like {@code UniqueAttendanceRecordList}, except that each record read from the list is created on demand, so
+ * it is equal to the record that was added but not the same object. Lists shown in the UI should keep their records as
+ * objects instead, so that the UI does not get a new object on every read.
+ * <p>
+ * As the records are sorted by student ID and then by session ID, the columns index the records themselves: a record
+ * is found by binary search, and the records of a student are next to each other. The records of a session are found
+ * through the sorted IDs of the students of each session, which take 4 bytes per record.
+ *
+ * @see AttendanceRecordColumns
+ */
+public class ColumnarAttendanceRecordList extends UniqueAttendanceRecordList {
+
+    private final AttendanceRecordColumns columns;
+    // The IDs of the students with a record of each session, sorted
+    private final IntHashMap<int[]> sessionStudentIds = new IntHashMap<>();
+
+    /**
+     * Creates an empty list that keeps its records in columns.
+     */
+    public ColumnarAttendanceRecordList() {
+        this(new AttendanceRecordColumns());
+    }
+
+    private ColumnarAttendanceRecordList(AttendanceRecordColumns columns) {
+        super(columns);
+        this.columns = columns;
+    }
+
+    @Override
+    public Optional<AttendanceRecord> findRecord(int studentId, int sessionId) {
+        int index = columns.indexOf(studentId, sessionId);
+        return index >= 0 ? Optional.of(columns.get(index)) : Optional.empty();
+    }
+
+    @Override
+    public List<AttendanceRecord> getSessionRecords(int sessionId) {
+        int[] studentIds = sessionStudentIds.get(sessionId);
+        if (studentIds == null) {
+            return List.of();
+        }
+
+        return new AbstractList<>() {
+            @Override
+            public AttendanceRecord get(int index) {
+                return columns.get(columns.indexOf(studentIds[index], sessionId));
+            }
+
+            @Override
+            public int size() {
+                return studentIds.length;
+            }
+        };
+    }
+
+    @Override
+    public List<AttendanceRecord> getStudentRecords(int studentId) {
+        int from = columns.lowerBound(studentId);
+        int to = studentId == Integer.MAX_VALUE ? columns.size() : columns.lowerBound(studentId + 1);
+        return Collections.unmodifiableList(columns.subList(from, to));
+    }
+
+    @Override
+    protected AttendanceRecord findEquivalent(AttendanceRecord record) {
+        return findRecord(record.getStudentId(), record.getSessionId()).orElse(null);
+    }
+
+    @Override
+    protected int indexOf(AttendanceRecord record) {
+        int index = columns.indexOf(record.getStudentId(), record.getSessionId());
+        return index >= 0 && columns.get(index).equals(record) ? index : -1;
+    }
+
+    // The records are found in the columns themselves, so there is no separate index of keys to maintain
+
+    @Override
+    protected void addToKeyIndex(AttendanceRecord record) {}
+
+    @Override
+    protected void removeFromKeyIndex(AttendanceRecord record) {}
+
+    @Override
+    protected void onElementAdded(AttendanceRecord record) {
+        int[] studentIds = sessionStudentIds.get(record.getSessionId());
+        if (studentIds == null) {
+            sessionStudentIds.put(record.getSessionId(), new int[] {record.getStudentId()});
+            return;
+        }
+
+        int index = Arrays.binarySearch(studentIds, record.getStudentId());
+        if (index >= 0) {
+            return;
+        }
+
+        // The arrays are sized exactly, as most sessions gain their students once and are then only read
+        int insertionPoint = -index - 1;
+        int[] updated = new int[studentIds.length + 1];
+        System.arraycopy(studentIds, 0, updated, 0, insertionPoint);
+        updated[insertionPoint] = record.getStudentId();
+        System.arraycopy(studentIds, insertionPoint, updated, insertionPoint + 1, studentIds.length - insertionPoint);
+        sessionStudentIds.put(record.getSessionId(), updated);
+    }
+
+    @Override
+    protected void onElementRemoved(AttendanceRecord record) {
+        int[] studentIds = sessionStudentIds.get(record.getSessionId());
+        int index = Arrays.binarySearch(studentIds, record.getStudentId());
+        if (studentIds.length == 1) {
+            sessionStudentIds.remove(record.getSessionId());
+            return;
+        }
+
+        int[] updated = new int[studentIds.length - 1];
+        System.arraycopy(studentIds, 0, updated, 0, index);
+        System.arraycopy(studentIds, index + 1, updated, index, updated.length - index);
+        sessionStudentIds.put(record.getSessionId(), updated);
+    }
+}
@@ -1,23 +1,197 @@
 package tutorly.model.attendancerecord;
 
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import tutorly.model.uniquelist.IntHashMap;
+import tutorly.model.uniquelist.LongHashMap;
 import tutorly.model.uniquelist.UniqueList;
+import tutorly.model.uniquelist.exceptions.ElementNotFoundException;
 
 /**
  * A list of attendance records that enforces uniqueness between its elements and does not allow nulls.
- * An attendance record is considered unique by comparing using {@code AttendanceRecord#isSameRecord(AttendanceRecord)}.
+ * An attendance record is considered unique by comparing using {@code AttendanceRecord#isSameRecord(AttendanceRecord)},
+ * which is keyed on the pair of student ID and session ID.
+ * The records are sorted by student ID and then by session ID.
+ * The records are indexed by their student ID and session ID packed into a primitive {@code long} instead of the boxed
+ * keys of {@code UniqueList}, so that looking up a record does not allocate, and are grouped into rosters by session
+ * and by student.
+ * <p>
+ * {@link ColumnarAttendanceRecordList} keeps the same records in columns of primitives instead, for large lists that
+ * are not shown in the UI.
  *
  * @see AttendanceRecord#isSameRecord(AttendanceRecord)
  */
 public class UniqueAttendanceRecordList extends UniqueList<AttendanceRecord> {
 
+    private final LongHashMap<AttendanceRecord> recordIndex = new LongHashMap<>();
+    // Rosters of records by session, each sorted by student ID, and by student, each sorted by session ID
+    private final IntHashMap<List<AttendanceRecord>> sessionRosters = new IntHashMap<>();
+    private final IntHashMap<List<AttendanceRecord>> studentRosters = new IntHashMap<>();
+
+    /**
+     * Creates an empty list that keeps its records as objects.
+     */
+    public UniqueAttendanceRecordList() {
+        super();
+    }
+
+    /**
+     * Creates an empty list that keeps its records in {@code records}.
+     */
+    UniqueAttendanceRecordList(List<AttendanceRecord> records) {
+        super(records);
+    }
+
+    /**
+     * Returns the attendance record of the student with {@code studentId} for the session with {@code sessionId}.
+     */
+    public Optional<AttendanceRecord> findRecord(int studentId, int sessionId) {
+        return Optional.ofNullable(recordIndex.get(toKey(studentId, sessionId)));
+    }
+
+    /**
+     * Returns an unmodifiable view of the attendance records of the session with {@code sessionId}, ordered by
+     * student ID. The view must not be used after the list is next modified.
+     */
+    public List<AttendanceRecord> getSessionRecords(int sessionId) {
+        return getRoster(sessionRosters, sessionId);
+    }
+
+    /**
+     * Returns an unmodifiable view of the attendance records of the student with {@code studentId}, ordered by
+     * session ID. The view must not be used after the list is next modified.
+     */
+    public List<AttendanceRecord> getStudentRecords(int studentId) {
+        return getRoster(studentRosters, studentId);
+    }
+
+    /**
+     * Removes all records in {@code toRemove} from the list. The records must all exist in the list.
+     * Unlike removing the records one at a time, the list is compacted in a single pass, and the list publishes a
+     * single change. {@code toRemove} may be a view returned by this list, as it is read before the list is modified.
+     */
+    public void removeAll(Collection<AttendanceRecord> toRemove) {
+        requireAllNonNull(toRemove);
+
+        Set<AttendanceRecord> records = new HashSet<>(toRemove);
+        for (AttendanceRecord record : records) {
+            if (!record.equals(findEquivalent(record))) {
+                throw new ElementNotFoundException();
+            }
+        }
+
+        if (!records.isEmpty()) {
+            removeIf(records::contains);
+        }
+    }
+
     @Override
-    protected boolean isEquivalent(AttendanceRecord a, AttendanceRecord b) {
-        return a.isSameRecord(b);
+    protected Object getKey(AttendanceRecord record) {
+        return toKey(record.getStudentId(), record.getSessionId());
+    }
+
+    @Override
+    protected AttendanceRecord findEquivalent(AttendanceRecord record) {
+        return recordIndex.get(toKey(record.getStudentId(), record.getSessionId()));
+    }
+
+    @Override
+    protected void addToKeyIndex(AttendanceRecord record) {
+        recordIndex.put(toKey(record.getStudentId(), record.getSessionId()), record);
+    }
+
+    @Override
+    protected void removeFromKeyIndex(AttendanceRecord record) {
+        recordIndex.remove(toKey(record.getStudentId(), record.getSessionId()));
+    }
+
+    @Override
+    protected void onElementAdded(AttendanceRecord record) {
+        addToRoster(sessionRosters, record.getSessionId(), AttendanceRecord::getStudentId, record);
+        addToRoster(studentRosters, record.getStudentId(), AttendanceRecord::getSessionId, record);
+    }
+
+    @Override
+    protected void onElementRemoved(AttendanceRecord record) {
+        removeFromRoster(sessionRosters, record.getSessionId(), AttendanceRecord::getStudentId, record);
+        removeFromRoster(studentRosters, record.getStudentId(), AttendanceRecord::getSessionId, record);
     }
 
     @Override
     protected int compare(AttendanceRecord a, AttendanceRecord b) {
-        return Integer.compare(a.getStudentId(), b.getStudentId());
+        int order = Integer.compare(a.getStudentId(), b.getStudentId());
+        return order != 0 ? order : Integer.compare(a.getSessionId(), b.getSessionId());
+    }
+
+    private static List<AttendanceRecord> getRoster(IntHashMap<List<AttendanceRecord>> rosters, int id) {
+        List<AttendanceRecord> roster = rosters.get(id);
+        return roster == null ? List.of() : Collections.unmodifiableList(roster);
+    }
+
+    /**
+     * Inserts {@code record} into the roster with the given ID, which is kept sorted by {@code memberId}.
+     */
+    private static void addToRoster(IntHashMap<List<AttendanceRecord>> rosters, int id,
+            ToIntFunction<AttendanceRecord> memberId, AttendanceRecord record) {
+        List<AttendanceRecord> roster = rosters.get(id);
+        if (roster == null) {
+            // Most rosters are small, so start with the smallest backing array
+            roster = new ArrayList<>(1);
+            rosters.put(id, roster);
+        }
+
+        int index = search(roster, memberId, memberId.applyAsInt(record));
+        if (index >= 0) {
+            roster.set(index, record);
+        } else {
+            roster.add(-index - 1, record);
+        }
+    }
+
+    private static void removeFromRoster(IntHashMap<List<AttendanceRecord>> rosters, int id,
+            ToIntFunction<AttendanceRecord> memberId, AttendanceRecord record) {
+        List<AttendanceRecord> roster = rosters.get(id);
+        roster.remove(search(roster, memberId, memberId.applyAsInt(record)));
+        if (roster.isEmpty()) {
+            rosters.remove(id);
+        }
+    }
+
+    /**
+     * Returns the index of the record with the given member ID in the roster sorted by {@code memberId}, or
+     * {@code -(insertion point) - 1} if there is no such record.
+     */
+    private static int search(List<AttendanceRecord> roster, ToIntFunction<AttendanceRecord> memberId, int target) {
+        int low = 0;
+        int high = roster.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = memberId.applyAsInt(roster.get(mid));
+            if (midId < target) {
+                low = mid + 1;
+            } else if (midId > target) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the student ID and session ID packed into a single {@code long}.
+     */
+    private static long toKey(int studentId, int sessionId) {
+        return ((long) studentId << Integer.SIZE) | Integer.toUnsignedLong(sessionId);
     }
 
 }
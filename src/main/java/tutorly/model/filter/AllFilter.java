@@ -0,0 +1,69 @@
+package tutorly.model.filter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a filter that represents the logical AND of the given filters.
+ * The filters are compiled by {@code FilterCompiler} and tested in the order planned by {@code FilterPlanner},
+ * stopping at the first filter that fails.
+ */
+public class AllFilter<T> implements Filter<T> {
+
+    private final List<Filter<T>> filters;
+
+    protected AllFilter(List<Filter<T>> filters) {
+        this.filters = filters;
+    }
+
+    List<Filter<T>> getFilters() {
+        return filters;
+    }
+
+    @Override
+    public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook) {
+        return FilterCompiler.compile(this, addressBook);
+    }
+
+    @Override
+    public double estimateCost(ReadOnlyAddressBook addressBook) {
+        return FilterPlanner.costOfAll(FilterPlanner.planAll(filters, addressBook));
+    }
+
+    @Override
+    public double estimateSelectivity(ReadOnlyAddressBook addressBook) {
+        if (filters.isEmpty()) {
+            return 1;
+        }
+        return FilterPlanner.selectivityOfAll(FilterPlanner.planAll(filters, addressBook));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AllFilter otherAllFilter)) {
+            return false;
+        }
+
+        return filters.equals(otherAllFilter.filters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(AllFilter.class, filters);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("filters", filters).toString();
+    }
+
+}
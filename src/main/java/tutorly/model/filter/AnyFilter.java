@@ -1,6 +1,7 @@
 package tutorly.model.filter;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import tutorly.commons.util.ToStringBuilder;
@@ -8,6 +9,8 @@ import tutorly.model.ReadOnlyAddressBook;
 
 /**
  * Represents a filter that represents the logical OR of the given filters.
+ * The filters are compiled by {@code FilterCompiler} and tested in the order planned by {@code FilterPlanner},
+ * stopping at the first filter that passes.
  */
 public class AnyFilter<T> implements Filter<T> {
 
@@ -17,9 +20,26 @@ public class AnyFilter<T> implements Filter<T> {
         this.filters = filters;
     }
 
+    List<Filter<T>> getFilters() {
+        return filters;
+    }
+
     @Override
     public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook) {
-        return filters.stream().map(f -> f.toPredicate(addressBook)).reduce(Predicate::or).orElse(t -> true);
+        return FilterCompiler.compile(this, addressBook);
+    }
+
+    @Override
+    public double estimateCost(ReadOnlyAddressBook addressBook) {
+        return FilterPlanner.costOfAny(FilterPlanner.planAny(filters, addressBook));
+    }
+
+    @Override
+    public double estimateSelectivity(ReadOnlyAddressBook addressBook) {
+        if (filters.isEmpty()) {
+            return 1;
+        }
+        return FilterPlanner.selectivityOfAny(FilterPlanner.planAny(filters, addressBook));
     }
 
     @Override
@@ -36,6 +56,11 @@ public class AnyFilter<T> implements Filter<T> {
         return filters.equals(otherAnyFilter.filters);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(AnyFilter.class, filters);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("filters", filters).toString();
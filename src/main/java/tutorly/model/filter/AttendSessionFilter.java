@@ -2,12 +2,10 @@ package tutorly.model.filter;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import java.util.function.Predicate;
 
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.model.ReadOnlyAddressBook;
-import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Person;
 
 /**
@@ -24,9 +22,17 @@ public class AttendSessionFilter implements Filter<Person> {
     public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
         requireNonNull(addressBook);
 
-        List<AttendanceRecord> filteredAttendanceRecords =
-                addressBook.getAttendanceRecordsList().filtered(record -> record.getSessionId() == sessionId);
-        return person -> filteredAttendanceRecords.stream().anyMatch(record -> record.getStudentId() == person.getId());
+        return person -> addressBook.findAttendanceRecord(person.getId(), sessionId).isPresent();
+    }
+
+    @Override
+    public double estimateSelectivity(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        int personCount = addressBook.getPersonList().size();
+        if (personCount == 0) {
+            return 0;
+        }
+        return Math.min(1, (double) addressBook.getSessionAttendanceRecords(sessionId).size() / personCount);
     }
 
     @Override
@@ -43,6 +49,11 @@ public class AttendSessionFilter implements Filter<Person> {
         return sessionId == otherAttendSessionFilter.sessionId;
     }
 
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(sessionId);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("sessionId", sessionId).toString();
@@ -1,6 +1,10 @@
 package tutorly.model.filter;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import tutorly.commons.util.ToStringBuilder;
@@ -19,7 +23,16 @@ public class DateSessionFilter implements Filter<Session> {
 
     @Override
     public Predicate<Session> toPredicate(ReadOnlyAddressBook addressBook) {
-        return session -> session.containsDate(date);
+        requireNonNull(addressBook);
+        Set<Integer> sessionIdsOnDate = addressBook.getSessionIdsOn(date);
+        return session -> sessionIdsOnDate.contains(session.getId());
+    }
+
+    @Override
+    public double estimateSelectivity(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return FilterPlanner.fractionOf(List.of(addressBook.getSessionIdsOn(date)),
+                addressBook.getSessionList().size());
     }
 
     @Override
@@ -36,6 +49,11 @@ public class DateSessionFilter implements Filter<Session> {
         return date.equals(otherDateSessionFilter.date);
     }
 
+    @Override
+    public int hashCode() {
+        return date.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("date", date).toString();
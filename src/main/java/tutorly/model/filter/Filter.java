@@ -7,6 +7,7 @@ import tutorly.model.ReadOnlyAddressBook;
 
 /**
  * Represents a filter that can be used to filter a list of objects.
+ * Filters that define {@code equals} should also define {@code hashCode}, as the results of equal filters are cached.
  */
 @FunctionalInterface
 public interface Filter<T> {
@@ -18,6 +19,20 @@ public interface Filter<T> {
         return new AnyFilter<>(filters);
     }
 
+    /**
+     * Returns a filter that represents the logical AND of the given filters.
+     */
+    public static <T> Filter<T> all(List<Filter<T>> filters) {
+        return new AllFilter<>(filters);
+    }
+
+    /**
+     * Returns a filter that represents the logical NOT of the given filter.
+     */
+    public static <T> Filter<T> not(Filter<T> filter) {
+        return new NotFilter<>(filter);
+    }
+
     /**
      * Returns the predicate that represents the filter.
      *
@@ -26,4 +41,26 @@ public interface Filter<T> {
      */
     public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns the estimated cost of testing an object with the predicate of the filter, in units of one hash lookup.
+     * Compound filters use this to test their cheapest filters first.
+     *
+     * @param addressBook The address book context.
+     * @return The estimated cost, which is positive.
+     */
+    public default double estimateCost(ReadOnlyAddressBook addressBook) {
+        return 1;
+    }
+
+    /**
+     * Returns the estimated fraction of objects that pass the filter.
+     * Compound filters use this to test first the filters most likely to decide the result.
+     *
+     * @param addressBook The address book context.
+     * @return The estimated fraction, between 0 and 1.
+     */
+    public default double estimateSelectivity(ReadOnlyAddressBook addressBook) {
+        return 0.5;
+    }
+
 }
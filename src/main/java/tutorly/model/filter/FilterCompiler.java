@@ -0,0 +1,150 @@
+package tutorly.model.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Compiles a tree of filters into a flat predicate.
+ * Nested filters of the same logical operator are flattened into one, and the keyword filters of a logical OR are
+ * merged into a single loop over an array of ID sets, so that testing an object does not go through a deep chain of
+ * lambdas. The remaining clauses are tested from an array, in the order planned by {@code FilterPlanner}.
+ */
+final class FilterCompiler {
+
+    private FilterCompiler() {}
+
+    /**
+     * Returns the predicate that represents {@code filter} in the context of {@code addressBook}.
+     */
+    static <T> Predicate<T> compile(Filter<T> filter, ReadOnlyAddressBook addressBook) {
+        if (filter instanceof AnyFilter<T> anyFilter) {
+            return compileAny(anyFilter, addressBook);
+        } else if (filter instanceof AllFilter<T> allFilter) {
+            return compileAll(allFilter, addressBook);
+        } else if (filter instanceof KeywordsFilter<T> keywordsFilter) {
+            return IdSetsFilter.of(keywordsFilter, addressBook).toPredicate(addressBook);
+        }
+        return filter.toPredicate(addressBook);
+    }
+
+    private static <T> Predicate<T> compileAny(AnyFilter<T> anyFilter, ReadOnlyAddressBook addressBook) {
+        List<Filter<T>> filters = new ArrayList<>();
+        flattenAny(anyFilter, filters);
+        if (filters.isEmpty()) {
+            return t -> true;
+        }
+
+        // Look up the keywords of all keyword filters once, and test their ID sets in a single clause
+        List<Filter<T>> clauses = new ArrayList<>();
+        IdSetsFilter<T> idSetsFilter = null;
+        for (Filter<T> filter : filters) {
+            if (filter instanceof KeywordsFilter<T> keywordsFilter) {
+                IdSetsFilter<T> keywordIds = IdSetsFilter.of(keywordsFilter, addressBook);
+                idSetsFilter = idSetsFilter == null ? keywordIds : idSetsFilter.merge(keywordIds);
+            } else {
+                clauses.add(filter);
+            }
+        }
+        if (idSetsFilter != null) {
+            clauses.add(idSetsFilter);
+        }
+
+        return FilterPlanner.toAnyPredicate(FilterPlanner.planAny(clauses, addressBook), addressBook);
+    }
+
+    private static <T> Predicate<T> compileAll(AllFilter<T> allFilter, ReadOnlyAddressBook addressBook) {
+        List<Filter<T>> filters = new ArrayList<>();
+        flattenAll(allFilter, filters);
+
+        // Look up the keywords of each keyword filter once, for both planning and testing
+        List<Filter<T>> clauses = new ArrayList<>();
+        for (Filter<T> filter : filters) {
+            clauses.add(filter instanceof KeywordsFilter<T> keywordsFilter
+                    ? IdSetsFilter.of(keywordsFilter, addressBook)
+                    : filter);
+        }
+
+        return FilterPlanner.toAllPredicate(FilterPlanner.planAll(clauses, addressBook), addressBook);
+    }
+
+    private static <T> void flattenAny(AnyFilter<T> anyFilter, List<Filter<T>> filters) {
+        for (Filter<T> filter : anyFilter.getFilters()) {
+            if (filter instanceof AnyFilter<T> nested) {
+                flattenAny(nested, filters);
+            } else {
+                filters.add(filter);
+            }
+        }
+    }
+
+    private static <T> void flattenAll(AllFilter<T> allFilter, List<Filter<T>> filters) {
+        for (Filter<T> filter : allFilter.getFilters()) {
+            if (filter instanceof AllFilter<T> nested) {
+                flattenAll(nested, filters);
+            } else {
+                filters.add(filter);
+            }
+        }
+    }
+
+    /**
+     * A filter for objects whose IDs are in any of the given ID sets, looked up from the address book beforehand.
+     */
+    private static class IdSetsFilter<T> implements Filter<T> {
+        private final ToIntFunction<T> idFunction;
+        private final List<Set<Integer>> idSets;
+        private final int candidateCount;
+
+        private IdSetsFilter(ToIntFunction<T> idFunction, List<Set<Integer>> idSets, int candidateCount) {
+            this.idFunction = idFunction;
+            this.idSets = idSets;
+            this.candidateCount = candidateCount;
+        }
+
+        static <T> IdSetsFilter<T> of(KeywordsFilter<T> keywordsFilter, ReadOnlyAddressBook addressBook) {
+            return new IdSetsFilter<>(keywordsFilter::getId, keywordsFilter.getMatchingIds(addressBook),
+                    keywordsFilter.countCandidates(addressBook));
+        }
+
+        /**
+         * Returns a filter for objects whose IDs are in any of the ID sets of this filter or {@code other}.
+         * Both filters must be tested against the same objects.
+         */
+        IdSetsFilter<T> merge(IdSetsFilter<T> other) {
+            List<Set<Integer>> merged = new ArrayList<>(idSets);
+            merged.addAll(other.idSets);
+            return new IdSetsFilter<>(idFunction, merged, candidateCount);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook) {
+            Set<Integer>[] sets = idSets.toArray(Set[]::new);
+            return t -> {
+                // Box the ID once instead of once per set
+                Integer id = idFunction.applyAsInt(t);
+                for (Set<Integer> set : sets) {
+                    if (set.contains(id)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        @Override
+        public double estimateCost(ReadOnlyAddressBook addressBook) {
+            return idSets.size();
+        }
+
+        @Override
+        public double estimateSelectivity(ReadOnlyAddressBook addressBook) {
+            return FilterPlanner.fractionOf(idSets, candidateCount);
+        }
+    }
+}
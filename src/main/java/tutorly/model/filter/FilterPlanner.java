@@ -0,0 +1,172 @@
+package tutorly.model.filter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Plans the evaluation of compound filters, using the cost and selectivity estimated by each filter.
+ * The filters of a logical AND are ordered so that those that reject the most elements per unit of cost are tested
+ * first, and the filters of a logical OR so that those that accept the most elements per unit of cost are tested
+ * first. This is the optimal order for short-circuit evaluation when the filters are independent.
+ */
+final class FilterPlanner {
+
+    /**
+     * The smallest cost assumed for a filter, so that free filters can still be ranked.
+     */
+    private static final double MIN_COST = 1e-6;
+
+    private FilterPlanner() {}
+
+    /**
+     * A filter together with its estimated cost and selectivity.
+     */
+    static class Clause<T> {
+        private final Filter<T> filter;
+        private final double cost;
+        private final double selectivity;
+
+        private Clause(Filter<T> filter, ReadOnlyAddressBook addressBook) {
+            this.filter = filter;
+            this.cost = Math.max(MIN_COST, filter.estimateCost(addressBook));
+            this.selectivity = Math.min(1, Math.max(0, filter.estimateSelectivity(addressBook)));
+        }
+
+        Filter<T> getFilter() {
+            return filter;
+        }
+    }
+
+    /**
+     * Returns the {@code filters} of a logical AND in the order that they should be tested.
+     */
+    static <T> List<Clause<T>> planAll(List<Filter<T>> filters, ReadOnlyAddressBook addressBook) {
+        return plan(filters, addressBook, clause -> (1 - clause.selectivity) / clause.cost);
+    }
+
+    /**
+     * Returns the {@code filters} of a logical OR in the order that they should be tested.
+     */
+    static <T> List<Clause<T>> planAny(List<Filter<T>> filters, ReadOnlyAddressBook addressBook) {
+        return plan(filters, addressBook, clause -> clause.selectivity / clause.cost);
+    }
+
+    private static <T> List<Clause<T>> plan(List<Filter<T>> filters, ReadOnlyAddressBook addressBook,
+            ToDoubleFunction<Clause<T>> rank) {
+        List<Clause<T>> clauses = new ArrayList<>(filters.size());
+        for (Filter<T> filter : filters) {
+            clauses.add(new Clause<>(filter, addressBook));
+        }
+        clauses.sort(Comparator.comparingDouble(rank).reversed());
+        return clauses;
+    }
+
+    /**
+     * Returns a predicate that tests the planned clauses of a logical AND in order, stopping at the first rejection.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Predicate<T> toAllPredicate(List<Clause<T>> clauses, ReadOnlyAddressBook addressBook) {
+        Predicate<T>[] predicates = clauses.stream().map(clause -> clause.filter.toPredicate(addressBook))
+                .toArray(Predicate[]::new);
+        if (predicates.length == 1) {
+            return predicates[0];
+        }
+        return t -> {
+            for (Predicate<T> predicate : predicates) {
+                if (!predicate.test(t)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns a predicate that tests the planned clauses of a logical OR in order, stopping at the first acceptance.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Predicate<T> toAnyPredicate(List<Clause<T>> clauses, ReadOnlyAddressBook addressBook) {
+        Predicate<T>[] predicates = clauses.stream().map(clause -> clause.filter.toPredicate(addressBook))
+                .toArray(Predicate[]::new);
+        if (predicates.length == 1) {
+            return predicates[0];
+        }
+        return t -> {
+            for (Predicate<T> predicate : predicates) {
+                if (predicate.test(t)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the expected cost of testing an element against the planned clauses of a logical AND.
+     */
+    static <T> double costOfAll(List<Clause<T>> clauses) {
+        double cost = 0;
+        double reached = 1;
+        for (Clause<T> clause : clauses) {
+            cost += reached * clause.cost;
+            reached *= clause.selectivity;
+        }
+        return cost;
+    }
+
+    /**
+     * Returns the expected cost of testing an element against the planned clauses of a logical OR.
+     */
+    static <T> double costOfAny(List<Clause<T>> clauses) {
+        double cost = 0;
+        double reached = 1;
+        for (Clause<T> clause : clauses) {
+            cost += reached * clause.cost;
+            reached *= 1 - clause.selectivity;
+        }
+        return cost;
+    }
+
+    /**
+     * Returns the fraction of elements that pass a logical AND of the clauses.
+     */
+    static <T> double selectivityOfAll(List<Clause<T>> clauses) {
+        double selectivity = 1;
+        for (Clause<T> clause : clauses) {
+            selectivity *= clause.selectivity;
+        }
+        return selectivity;
+    }
+
+    /**
+     * Returns the fraction of elements that pass a logical OR of the clauses.
+     */
+    static <T> double selectivityOfAny(List<Clause<T>> clauses) {
+        double rejected = 1;
+        for (Clause<T> clause : clauses) {
+            rejected *= 1 - clause.selectivity;
+        }
+        return 1 - rejected;
+    }
+
+    /**
+     * Returns the fraction of {@code total} elements in the union of {@code matchingIds}, estimated as the sum of their
+     * sizes.
+     */
+    static double fractionOf(List<Set<Integer>> matchingIds, int total) {
+        if (total == 0) {
+            return 0;
+        }
+        long matching = 0;
+        for (Set<Integer> ids : matchingIds) {
+            matching += ids.size();
+        }
+        return Math.min(1, (double) matching / total);
+    }
+}
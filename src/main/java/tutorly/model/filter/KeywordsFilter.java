@@ -0,0 +1,62 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a filter for objects with a field that matches any of the keywords given, answered from an index of the
+ * address book. Compound filters merge the index lookups of such filters into a single flat test.
+ */
+public abstract class KeywordsFilter<T> implements Filter<T> {
+    protected final List<String> keywords;
+
+    protected KeywordsFilter(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the IDs of the objects in {@code addressBook} with a field that matches {@code keyword}.
+     * The returned set follows later changes to the address book.
+     */
+    protected abstract Set<Integer> getIdsMatching(ReadOnlyAddressBook addressBook, String keyword);
+
+    /**
+     * Returns the number of objects in {@code addressBook} that the filter is tested against.
+     */
+    protected abstract int countCandidates(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns the ID of {@code t}.
+     */
+    protected abstract int getId(T t);
+
+    /**
+     * Returns the IDs of the objects in {@code addressBook} matching each keyword.
+     */
+    List<Set<Integer>> getMatchingIds(ReadOnlyAddressBook addressBook) {
+        return keywords.stream().map(keyword -> getIdsMatching(addressBook, keyword)).toList();
+    }
+
+    @Override
+    public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return FilterCompiler.compile(this, addressBook);
+    }
+
+    @Override
+    public double estimateCost(ReadOnlyAddressBook addressBook) {
+        return keywords.size();
+    }
+
+    @Override
+    public double estimateSelectivity(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return FilterPlanner.fractionOf(getMatchingIds(addressBook), countCandidates(addressBook));
+    }
+
+}
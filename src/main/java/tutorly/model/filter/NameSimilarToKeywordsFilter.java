@@ -0,0 +1,60 @@
+package tutorly.model.filter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+/**
+ * Represents a filter for a {@code Person} whose {@code Name} has a word within a few edits of any of the keywords
+ * given, so that misspelled keywords still match.
+ */
+public class NameSimilarToKeywordsFilter extends KeywordsFilter<Person> {
+
+    public NameSimilarToKeywordsFilter(List<String> keywords) {
+        super(keywords);
+    }
+
+    @Override
+    protected Set<Integer> getIdsMatching(ReadOnlyAddressBook addressBook, String keyword) {
+        return addressBook.getPersonIdsWithNameSimilarTo(keyword);
+    }
+
+    @Override
+    protected int countCandidates(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().size();
+    }
+
+    @Override
+    protected int getId(Person person) {
+        return person.getId();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSimilarToKeywordsFilter otherNameSimilarToKeywordsFilter)) {
+            return false;
+        }
+
+        return keywords.equals(otherNameSimilarToKeywordsFilter.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(NameSimilarToKeywordsFilter.class, keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+
+}
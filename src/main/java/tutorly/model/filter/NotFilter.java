@@ -0,0 +1,59 @@
+package tutorly.model.filter;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a filter that represents the logical NOT of the given filter.
+ */
+public class NotFilter<T> implements Filter<T> {
+
+    private final Filter<T> filter;
+
+    protected NotFilter(Filter<T> filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook) {
+        return filter.toPredicate(addressBook).negate();
+    }
+
+    @Override
+    public double estimateCost(ReadOnlyAddressBook addressBook) {
+        return filter.estimateCost(addressBook);
+    }
+
+    @Override
+    public double estimateSelectivity(ReadOnlyAddressBook addressBook) {
+        return 1 - filter.estimateSelectivity(addressBook);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotFilter otherNotFilter)) {
+            return false;
+        }
+
+        return filter.equals(otherNotFilter.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(NotFilter.class, filter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("filter", filter).toString();
+    }
+
+}
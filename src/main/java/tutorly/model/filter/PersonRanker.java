@@ -0,0 +1,187 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+import static tutorly.commons.util.StringUtil.anyTokenSimilar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.person.Person;
+
+/**
+ * Ranks persons by how well their names and phone numbers match the keywords given, and keeps only the best few.
+ * For each name keyword, the best match among the words of a person's name counts: a whole word scores
+ * {@value #EXACT_WEIGHT}, the start of a word {@value #PREFIX_WEIGHT} and any other part of a word
+ * {@value #SUBSTRING_WEIGHT}. Fuzzy name keywords score the same, or {@value #FUZZY_WEIGHT} if they only match a word
+ * with small spelling mistakes, as {@code NameSimilarToKeywordsFilter} does. Each phone keyword found in the phone
+ * number adds {@value #PHONE_WEIGHT}.
+ * <p>
+ * The best {@code limit} persons are kept in a bounded heap while scanning, so ranking n matches takes
+ * O(n log limit) time and O(limit) space instead of sorting all of them.
+ */
+public class PersonRanker {
+
+    public static final String MESSAGE_CONSTRAINTS = "Number of results should be a non-zero unsigned integer.";
+
+    static final int EXACT_WEIGHT = 16;
+    static final int PREFIX_WEIGHT = 8;
+    static final int SUBSTRING_WEIGHT = 2;
+    static final int FUZZY_WEIGHT = 1;
+    static final int PHONE_WEIGHT = 4;
+
+    private final List<String> nameKeywords;
+    private final List<String> fuzzyNameKeywords;
+    private final List<String> phoneKeywords;
+    private final int limit;
+
+    /**
+     * Creates a {@code PersonRanker} that keeps the best {@code limit} persons for the given keywords.
+     */
+    public PersonRanker(List<String> nameKeywords, List<String> fuzzyNameKeywords, List<String> phoneKeywords,
+            int limit) {
+        requireNonNull(nameKeywords);
+        requireNonNull(fuzzyNameKeywords);
+        requireNonNull(phoneKeywords);
+        checkArgument(limit > 0, MESSAGE_CONSTRAINTS);
+        this.nameKeywords = nameKeywords.stream().map(keyword -> keyword.toLowerCase(Locale.ROOT)).toList();
+        this.fuzzyNameKeywords = fuzzyNameKeywords.stream().map(keyword -> keyword.toLowerCase(Locale.ROOT)).toList();
+        this.phoneKeywords = phoneKeywords.stream().map(keyword -> keyword.toLowerCase(Locale.ROOT)).toList();
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the relevance score of {@code person}, where a higher score is a better match.
+     */
+    public int score(Person person) {
+        int score = 0;
+        String[] nameTokens = person.getName().getSearchTokens();
+        for (String keyword : nameKeywords) {
+            score += scoreName(nameTokens, keyword);
+        }
+        for (String keyword : fuzzyNameKeywords) {
+            int nameScore = scoreName(nameTokens, keyword);
+            if (nameScore > 0) {
+                score += nameScore;
+            } else if (anyTokenSimilar(nameTokens, keyword)) {
+                score += FUZZY_WEIGHT;
+            }
+        }
+
+        String[] phoneTokens = person.getPhone().getSearchTokens();
+        for (String keyword : phoneKeywords) {
+            for (String token : phoneTokens) {
+                if (token.contains(keyword)) {
+                    score += PHONE_WEIGHT;
+                    break;
+                }
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Returns the best {@code limit} persons in {@code persons} that satisfy {@code predicate}, best first.
+     * Persons with equal scores are ordered by ID.
+     */
+    public List<Person> rank(Collection<Person> persons, Predicate<Person> predicate) {
+        requireNonNull(persons);
+        requireNonNull(predicate);
+
+        // The root of the heap is the worst of the persons kept so far, which is the one to evict
+        PriorityQueue<Scored> best = new PriorityQueue<>(Math.min(limit, Math.max(persons.size(), 1)),
+                Scored.BEST_FIRST.reversed());
+        for (Person person : persons) {
+            if (!predicate.test(person)) {
+                continue;
+            }
+
+            Scored scored = new Scored(person, score(person));
+            if (best.size() < limit) {
+                best.add(scored);
+            } else if (Scored.BEST_FIRST.compare(scored, best.peek()) < 0) {
+                best.poll();
+                best.add(scored);
+            }
+        }
+
+        List<Scored> sorted = new ArrayList<>(best);
+        sorted.sort(Scored.BEST_FIRST);
+        return sorted.stream().map(scored -> scored.person).toList();
+    }
+
+    /**
+     * Returns a comparator that orders persons best first, the same way as {@link #rank(Collection, Predicate)}.
+     * Persons are scored again on each comparison, so it is meant for ordering the few persons kept by a ranking.
+     */
+    public Comparator<Person> comparator() {
+        return Comparator.comparingInt((Person person) -> -score(person)).thenComparingInt(Person::getId);
+    }
+
+    /**
+     * Returns the score of the best match of {@code keyword} among {@code nameTokens}.
+     */
+    private static int scoreName(String[] nameTokens, String keyword) {
+        int best = 0;
+        for (String token : nameTokens) {
+            if (token.equals(keyword)) {
+                return EXACT_WEIGHT;
+            } else if (token.startsWith(keyword)) {
+                best = PREFIX_WEIGHT;
+            } else if (best < SUBSTRING_WEIGHT && token.contains(keyword)) {
+                best = SUBSTRING_WEIGHT;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * A person with its score.
+     */
+    private static class Scored {
+        private static final Comparator<Scored> BEST_FIRST = Comparator
+                .comparingInt((Scored scored) -> -scored.score)
+                .thenComparingInt(scored -> scored.person.getId());
+
+        private final Person person;
+        private final int score;
+
+        private Scored(Person person, int score) {
+            this.person = person;
+            this.score = score;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonRanker otherPersonRanker)) {
+            return false;
+        }
+
+        return nameKeywords.equals(otherPersonRanker.nameKeywords)
+                && fuzzyNameKeywords.equals(otherPersonRanker.fuzzyNameKeywords)
+                && phoneKeywords.equals(otherPersonRanker.phoneKeywords)
+                && limit == otherPersonRanker.limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("nameKeywords", nameKeywords)
+                .add("fuzzyNameKeywords", fuzzyNameKeywords)
+                .add("phoneKeywords", phoneKeywords)
+                .add("limit", limit)
+                .toString();
+    }
+}
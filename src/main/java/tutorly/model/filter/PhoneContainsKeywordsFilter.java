@@ -1,9 +1,9 @@
 package tutorly.model.filter;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Objects;
+import java.util.Set;
 
-import tutorly.commons.util.StringUtil;
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.person.Person;
@@ -11,17 +11,25 @@ import tutorly.model.person.Person;
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
  */
-public class PhoneContainsKeywordsFilter implements Filter<Person> {
-    private final List<String> keywords;
+public class PhoneContainsKeywordsFilter extends KeywordsFilter<Person> {
 
     public PhoneContainsKeywordsFilter(List<String> keywords) {
-        this.keywords = keywords;
+        super(keywords);
     }
 
     @Override
-    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
-        return person -> keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword));
+    protected Set<Integer> getIdsMatching(ReadOnlyAddressBook addressBook, String keyword) {
+        return addressBook.getPersonIdsWithPhoneContaining(keyword);
+    }
+
+    @Override
+    protected int countCandidates(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().size();
+    }
+
+    @Override
+    protected int getId(Person person) {
+        return person.getId();
     }
 
     @Override
@@ -38,6 +46,11 @@ public class PhoneContainsKeywordsFilter implements Filter<Person> {
         return keywords.equals(otherNameContainsKeywordsFilter.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(PhoneContainsKeywordsFilter.class, keywords);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -1,9 +1,9 @@
 package tutorly.model.filter;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Objects;
+import java.util.Set;
 
-import tutorly.commons.util.StringUtil;
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.session.Session;
@@ -11,17 +11,25 @@ import tutorly.model.session.Session;
 /**
  * Represents a filter for a {@code Session} whose {@code Subject} matches any of the keywords given.
  */
-public class SubjectContainsKeywordsFilter implements Filter<Session> {
-    private final List<String> keywords;
+public class SubjectContainsKeywordsFilter extends KeywordsFilter<Session> {
 
     public SubjectContainsKeywordsFilter(List<String> keywords) {
-        this.keywords = keywords;
+        super(keywords);
     }
 
     @Override
-    public Predicate<Session> toPredicate(ReadOnlyAddressBook addressBook) {
-        return session -> keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(session.getSubject().subjectName, keyword));
+    protected Set<Integer> getIdsMatching(ReadOnlyAddressBook addressBook, String keyword) {
+        return addressBook.getSessionIdsWithSubjectContaining(keyword);
+    }
+
+    @Override
+    protected int countCandidates(ReadOnlyAddressBook addressBook) {
+        return addressBook.getSessionList().size();
+    }
+
+    @Override
+    protected int getId(Session session) {
+        return session.getId();
     }
 
     @Override
@@ -38,6 +46,11 @@ public class SubjectContainsKeywordsFilter implements Filter<Session> {
         return keywords.equals(otherSubjectContainsKeywordsFilter.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(SubjectContainsKeywordsFilter.class, keywords);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -3,8 +3,16 @@ package tutorly.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
 
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import tutorly.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
+ * Names are compared by their normalized form, which ignores case, how characters are encoded and the amount of
+ * whitespace, so that equal names can be looked up by hashing.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
  */
 public class Name {
@@ -22,7 +30,14 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{L}][\\p{L} .'-@/]*";
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final char FINAL_SMALL_SIGMA = '\u03c2';
+    private static final char SMALL_SIGMA = '\u03c3';
+    private static final String SMALL_I_WITH_DOT_ABOVE = "i\u0307";
+
     public final String fullName;
+    private final String normalizedName;
+    private volatile String[] searchTokens;
 
     /**
      * Constructs a {@code Name}.
@@ -33,15 +48,60 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        normalizedName = normalize(name);
     }
 
     /**
      * Returns true if a given string is a valid name.
+     * Letters written with combining accents are accepted as the precomposed letters they stand for.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        return Normalizer.normalize(test, Normalizer.Form.NFC).matches(VALIDATION_REGEX)
+                && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns {@code name} in NFKC form with runs of whitespace collapsed to a single space and case folded, such that
+     * two names that only differ in case, in how their characters are encoded, or in the amount of spacing between
+     * words have the same normalized form.
+     * NFKC maps accented letters written with combining accents and compatibility characters, such as full-width
+     * letters and non-breaking spaces, to their standard form. Case is then folded by converting to upper case and
+     * then to lower case, which also maps characters such as "ß" and "ss" to the same form, and the special cases that
+     * this leaves apart are mapped together: final sigma "ς" to "σ", and the "i" with a combining dot above, which
+     * dotted capital "İ" lowers to, to "i".
+     */
+    public static String normalize(String name) {
+        String compatible = Normalizer.normalize(name, Normalizer.Form.NFKC);
+        String collapsed = WHITESPACE.matcher(compatible).replaceAll(" ");
+        String folded = collapsed.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT)
+                .replace(FINAL_SMALL_SIGMA, SMALL_SIGMA)
+                .replace(SMALL_I_WITH_DOT_ABOVE, "i");
+        return Normalizer.normalize(folded, Normalizer.Form.NFKC);
+    }
+
+    /**
+     * Returns the normalized form of this name.
+     *
+     * @see #normalize(String)
+     */
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    /**
+     * Returns the words of this name in lower case, for keyword searches.
+     * The words are computed on first use and cached. The returned array must not be modified.
+     *
+     * @see StringUtil#toSearchTokens(String)
+     */
+    public String[] getSearchTokens() {
+        String[] tokens = searchTokens;
+        if (tokens == null) {
+            tokens = StringUtil.toSearchTokens(fullName);
+            searchTokens = tokens;
+        }
+        return tokens;
+    }
 
     @Override
     public String toString() {
@@ -59,12 +119,12 @@ public class Name {
             return false;
         }
 
-        return fullName.equalsIgnoreCase(otherName.fullName);
+        return normalizedName.equals(otherName.normalizedName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return normalizedName.hashCode();
     }
 
 }
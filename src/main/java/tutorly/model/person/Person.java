@@ -2,9 +2,6 @@ package tutorly.model.person;
 
 import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
 
 import tutorly.commons.util.ToStringBuilder;
@@ -15,6 +12,8 @@ import tutorly.model.tag.Tag;
  * Represents a student in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
  * Optional fields with empty string values are considered as not provided.
+ * Tags are stored as a canonical set from {@link Tag#ofSet(Set)} shared with other persons with the same tags, and
+ * the hash code is computed once.
  */
 public class Person {
 
@@ -29,9 +28,11 @@ public class Person {
     private final Phone phone;
     private final Email email;
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
     private final Memo memo;
 
+    private int hash; // cached hash code, 0 if not yet computed
+
     /**
      * Every field must be present and not null.
      */
@@ -41,7 +42,7 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = Tag.ofSet(tags);
         this.memo = memo;
     }
 
@@ -59,6 +60,7 @@ public class Person {
         }
 
         this.id = studentId;
+        this.hash = 0;
     }
 
     public int getId() {
@@ -86,7 +88,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public Memo getMemo() {
@@ -131,8 +133,17 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(id, name, phone, email, address, tags, memo);
+        if (hash == 0) {
+            int result = Integer.hashCode(id);
+            result = 31 * result + name.hashCode();
+            result = 31 * result + phone.hashCode();
+            result = 31 * result + email.hashCode();
+            result = 31 * result + address.hashCode();
+            result = 31 * result + tags.hashCode();
+            result = 31 * result + memo.hashCode();
+            hash = result;
+        }
+        return hash;
     }
 
     @Override
@@ -143,7 +154,7 @@ public class Person {
                 .add("phone", phone)
                 .add("email", email)
                 .add("address", address)
-                .add("tags", tags)
+                .add("tags", getTags())
                 .add("memo", memo)
                 .toString();
     }
@@ -3,6 +3,8 @@ package tutorly.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
 
+import tutorly.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -21,6 +23,7 @@ public class Phone {
     private static final Phone EMPTY_PHONE = new Phone();
 
     public final String value;
+    private volatile String[] searchTokens;
 
     /**
      * Constructs an empty {@code Phone} instance.
@@ -54,6 +57,21 @@ public class Phone {
         return test.matches(VALIDATION_REGEX) && test.length() >= MIN_LENGTH && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the words of this phone number in lower case, for keyword searches.
+     * The words are computed on first use and cached. The returned array must not be modified.
+     *
+     * @see StringUtil#toSearchTokens(String)
+     */
+    public String[] getSearchTokens() {
+        String[] tokens = searchTokens;
+        if (tokens == null) {
+            tokens = StringUtil.toSearchTokens(value);
+            searchTokens = tokens;
+        }
+        return tokens;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -1,20 +1,48 @@
 package tutorly.model.person;
 
 import java.util.Optional;
+import java.util.Set;
 
+import tutorly.model.uniquelist.IntHashMap;
+import tutorly.model.uniquelist.NgramIndex;
+import tutorly.model.uniquelist.SimilarWordIndex;
 import tutorly.model.uniquelist.UniqueList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
- * A person is considered unique by comparing using {@code Person#isSamePerson(Person)}.
+ * A person is considered unique by comparing using {@code Person#isSamePerson(Person)}, which is keyed on the
+ * person's {@code Name}.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList extends UniqueList<Person> {
 
+    private final IntHashMap<Person> idIndex = new IntHashMap<>();
+    private final NgramIndex nameIndex = new NgramIndex();
+    private final SimilarWordIndex nameSimilarityIndex = new SimilarWordIndex();
+    private final NgramIndex phoneIndex = new NgramIndex();
+
+    @Override
+    protected Object getKey(Person person) {
+        return person.getName();
+    }
+
     @Override
-    protected boolean isEquivalent(Person a, Person b) {
-        return a.isSamePerson(b);
+    protected void onElementAdded(Person person) {
+        idIndex.put(person.getId(), person);
+        nameIndex.add(person.getId(), person.getName().getSearchTokens());
+        nameSimilarityIndex.add(person.getId(), person.getName().getSearchTokens());
+        phoneIndex.add(person.getId(), person.getPhone().getSearchTokens());
+    }
+
+    @Override
+    protected void onElementRemoved(Person person) {
+        if (idIndex.get(person.getId()) == person) {
+            idIndex.remove(person.getId());
+            nameIndex.remove(person.getId());
+            nameSimilarityIndex.remove(person.getId());
+            phoneIndex.remove(person.getId());
+        }
     }
 
     @Override
@@ -29,21 +57,52 @@ public class UniquePersonList extends UniqueList<Person> {
      * @return The person with the given ID.
      */
     public Optional<Person> getPersonById(int id) {
-        return internalList.stream()
-                .filter(person -> person.getId() == id)
-                .findFirst();
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
      * Returns the person with the given name if it exists.
+     * Names are matched by their normalized form, ignoring case and extra whitespace.
      *
      * @param name The name of the person to retrieve.
      * @return The person with the given name.
      */
     public Optional<Person> getPersonByName(Name name) {
-        return internalList.stream()
-                .filter(person -> person.getName().equals(name))
-                .findFirst();
+        return findByKey(name);
+    }
+
+    /**
+     * Returns an unmodifiable view of the IDs of the persons with a word in their name that contains {@code keyword},
+     * ignoring case. The view is updated as persons are added to or removed from the list.
+     *
+     * @param keyword The keyword to search for, which must be a single word.
+     * @return The IDs of the matching persons.
+     */
+    public Set<Integer> getIdsWithNameContaining(String keyword) {
+        return nameIndex.search(keyword);
+    }
+
+    /**
+     * Returns an unmodifiable view of the IDs of the persons with a word in their name that is within a few edits of
+     * {@code keyword}, ignoring case. The view is updated as persons are added to or removed from the list.
+     *
+     * @param keyword The keyword to search for, which must be a single word.
+     * @return The IDs of the matching persons.
+     * @see tutorly.commons.util.StringUtil#anyTokenSimilar(String[], String)
+     */
+    public Set<Integer> getIdsWithNameSimilarTo(String keyword) {
+        return nameSimilarityIndex.search(keyword);
+    }
+
+    /**
+     * Returns an unmodifiable view of the IDs of the persons with a word in their phone number that contains
+     * {@code keyword}. The view is updated as persons are added to or removed from the list.
+     *
+     * @param keyword The keyword to search for, which must be a single word.
+     * @return The IDs of the matching persons.
+     */
+    public Set<Integer> getIdsWithPhoneContaining(String keyword) {
+        return phoneIndex.search(keyword);
     }
 
 }
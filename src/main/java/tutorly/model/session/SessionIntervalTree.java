@@ -0,0 +1,195 @@
+package tutorly.model.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An interval tree of sessions, used to find the sessions whose timeslots overlap a given timeslot.
+ * Sessions are kept in a balanced (AVL) binary search tree ordered by start time, where each node also tracks the
+ * latest end time in its subtree. Subtrees that end before the queried timeslot starts, or start after it ends, are
+ * skipped, so a query takes O(log n + k) time for k overlapping sessions.
+ */
+class SessionIntervalTree {
+
+    private static final Comparator<Session> ORDER = Comparator
+            .comparing((Session session) -> session.getTimeslot().getStartTime())
+            .thenComparingInt(Session::getId);
+
+    private Node root;
+
+    /**
+     * A node holding one session.
+     */
+    private static class Node {
+        private final Session session;
+        private Node left;
+        private Node right;
+        private int height = 1;
+        private LocalDateTime maxEndTime;
+
+        private Node(Session session) {
+            this.session = session;
+            this.maxEndTime = session.getTimeslot().getEndTime();
+        }
+    }
+
+    /**
+     * Adds {@code session} to the tree.
+     */
+    public void add(Session session) {
+        requireNonNull(session);
+        root = insert(root, session);
+    }
+
+    /**
+     * Removes {@code session} from the tree, if it is in the tree.
+     */
+    public void remove(Session session) {
+        requireNonNull(session);
+        root = delete(root, session);
+    }
+
+    /**
+     * Returns true if any session in the tree that satisfies {@code filter} overlaps {@code timeslot}.
+     */
+    public boolean anyOverlapping(Timeslot timeslot, Predicate<Session> filter) {
+        requireNonNull(timeslot);
+        List<Session> found = new ArrayList<>(1);
+        collectOverlapping(root, timeslot, filter, found, 1);
+        return !found.isEmpty();
+    }
+
+    /**
+     * Returns the sessions in the tree whose timeslots overlap {@code timeslot}, ordered by start time.
+     */
+    public List<Session> findOverlapping(Timeslot timeslot) {
+        requireNonNull(timeslot);
+        List<Session> found = new ArrayList<>();
+        collectOverlapping(root, timeslot, session -> true, found, Integer.MAX_VALUE);
+        return found;
+    }
+
+    /**
+     * Collects into {@code found} the sessions in the subtree of {@code node} that satisfy {@code filter} and overlap
+     * {@code timeslot}, in order, until {@code limit} sessions have been found.
+     */
+    private static void collectOverlapping(Node node, Timeslot timeslot, Predicate<Session> filter,
+            List<Session> found, int limit) {
+        // No session in this subtree ends after the timeslot starts
+        if (node == null || found.size() >= limit || !node.maxEndTime.isAfter(timeslot.getStartTime())) {
+            return;
+        }
+
+        collectOverlapping(node.left, timeslot, filter, found, limit);
+
+        // This session and every session in the right subtree start at or after the timeslot ends
+        if (!node.session.getTimeslot().getStartTime().isBefore(timeslot.getEndTime())) {
+            return;
+        }
+
+        if (found.size() < limit && node.session.getTimeslot().isOverlapping(timeslot)
+                && filter.test(node.session)) {
+            found.add(node.session);
+        }
+
+        collectOverlapping(node.right, timeslot, filter, found, limit);
+    }
+
+    private static Node insert(Node node, Session session) {
+        if (node == null) {
+            return new Node(session);
+        }
+
+        if (ORDER.compare(session, node.session) < 0) {
+            node.left = insert(node.left, session);
+        } else {
+            node.right = insert(node.right, session);
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, Session session) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = ORDER.compare(session, node.session);
+        if (comparison < 0) {
+            node.left = delete(node.left, session);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, session);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replacement = new Node(successor.session);
+            replacement.left = node.left;
+            replacement.right = delete(node.right, successor.session);
+            return rebalance(replacement);
+        }
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Recomputes the height and latest end time of {@code node} from its children.
+     */
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEndTime = node.session.getTimeslot().getEndTime();
+        if (node.left != null && node.left.maxEndTime.isAfter(node.maxEndTime)) {
+            node.maxEndTime = node.left.maxEndTime;
+        }
+        if (node.right != null && node.right.maxEndTime.isAfter(node.maxEndTime)) {
+            node.maxEndTime = node.right.maxEndTime;
+        }
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+}
@@ -3,6 +3,9 @@ package tutorly.model.session;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
 
+import tutorly.commons.util.Interner;
+import tutorly.commons.util.StringUtil;
+
 /**
  * Represents a Subject in the system.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubject(String)}
@@ -20,7 +23,10 @@ public class Subject {
      */
     public static final String VALIDATION_REGEX = "[^\\s](?s).*";
 
+    private static final Interner<Subject> INTERNER = new Interner<>();
+
     public final String subjectName;
+    private volatile String[] searchTokens;
 
     /**
      * Constructs a {@code Subject}.
@@ -33,6 +39,16 @@ public class Subject {
         this.subjectName = subjectName;
     }
 
+    /**
+     * Returns the canonical {@code Subject} with the given subject name, so that equal subjects share a single
+     * instance.
+     *
+     * @param subjectName A valid subject name.
+     */
+    public static Subject of(String subjectName) {
+        return INTERNER.intern(new Subject(subjectName));
+    }
+
     /**
      * Returns true if a given string is a valid subject name.
      */
@@ -40,6 +56,21 @@ public class Subject {
         return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the words of this subject in lower case, for keyword searches.
+     * The words are computed on first use and cached. The returned array must not be modified.
+     *
+     * @see StringUtil#toSearchTokens(String)
+     */
+    public String[] getSearchTokens() {
+        String[] tokens = searchTokens;
+        if (tokens == null) {
+            tokens = StringUtil.toSearchTokens(subjectName);
+            searchTokens = tokens;
+        }
+        return tokens;
+    }
+
     @Override
     public String toString() {
         return subjectName;
@@ -1,20 +1,65 @@
 package tutorly.model.session;
 
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import tutorly.model.uniquelist.IntHashMap;
+import tutorly.model.uniquelist.NgramIndex;
 import tutorly.model.uniquelist.UniqueList;
 
 /**
  * A list of sessions that enforces uniqueness between its elements and does not allow nulls.
- * A session is considered unique by comparing using {@code Session#isSameSession(Session)}.
+ * A session is considered unique by comparing using {@code Session#isSameSession(Session)}, which is keyed on the
+ * session's ID.
  *
  * @see Session#isSameSession(Session)
  */
 public class UniqueSessionList extends UniqueList<Session> {
 
+    private final IntHashMap<Session> idIndex = new IntHashMap<>();
+    private final SessionIntervalTree timeslotIndex = new SessionIntervalTree();
+    private final NgramIndex subjectIndex = new NgramIndex();
+
+    // IDs of the sessions on each date, including every date spanned by a multi-day session. Only dates with sessions
+    // have a bucket, so views look up the bucket of their date on each access instead of holding on to it.
+    private final Map<LocalDate, Set<Integer>> dateIndex = new HashMap<>();
+
+    @Override
+    protected Object getKey(Session session) {
+        return session.getId();
+    }
+
     @Override
-    protected boolean isEquivalent(Session a, Session b) {
-        return a.isSameSession(b);
+    protected void onElementAdded(Session session) {
+        idIndex.put(session.getId(), session);
+        timeslotIndex.add(session);
+        subjectIndex.add(session.getId(), session.getSubject().getSearchTokens());
+        forEachDate(session, date -> dateIndex.computeIfAbsent(date, unused -> new HashSet<>()).add(session.getId()));
+    }
+
+    @Override
+    protected void onElementRemoved(Session session) {
+        idIndex.remove(session.getId());
+        timeslotIndex.remove(session);
+        subjectIndex.remove(session.getId());
+        forEachDate(session, date -> {
+            Set<Integer> bucket = dateIndex.get(date);
+            bucket.remove(session.getId());
+            if (bucket.isEmpty()) {
+                dateIndex.remove(date);
+            }
+        });
     }
 
     @Override
@@ -29,9 +74,7 @@ public class UniqueSessionList extends UniqueList<Session> {
      * @return The session with the given ID.
      */
     public Optional<Session> getSessionById(int id) {
-        return internalList.stream()
-                .filter(session -> session.getId() == id)
-                .findFirst();
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
@@ -43,8 +86,83 @@ public class UniqueSessionList extends UniqueList<Session> {
      * @return True if there is an overlapping session, false otherwise.
      */
     public boolean hasOverlappingSession(Session toCheck) {
-        return internalList.stream()
-                .anyMatch(session -> !session.isSameSession(toCheck)
-                        && session.hasOverlappingTimeslot(toCheck));
+        return timeslotIndex.anyOverlapping(toCheck.getTimeslot(), session -> !session.isSameSession(toCheck));
+    }
+
+    /**
+     * Returns the sessions in the list that overlap with the session {@code toCheck}, ordered by start time.
+     * Conflicts with the same session are ignored.
+     *
+     * @param toCheck The session to check for overlap.
+     * @return The overlapping sessions.
+     */
+    public List<Session> getOverlappingSessions(Session toCheck) {
+        List<Session> overlappingSessions = timeslotIndex.findOverlapping(toCheck.getTimeslot());
+        overlappingSessions.removeIf(session -> session.isSameSession(toCheck));
+        return overlappingSessions;
+    }
+
+    /**
+     * Returns an unmodifiable view of the IDs of the sessions in the list that fall on the given date.
+     * The view is updated as sessions are added to or removed from the list.
+     *
+     * @param date The date to look up.
+     * @return The IDs of the sessions on the given date.
+     */
+    public Set<Integer> getSessionIdsOn(LocalDate date) {
+        requireNonNull(date);
+        return new SessionIdsOn(date);
+    }
+
+    /**
+     * Returns an unmodifiable view of the IDs of the sessions with a word in their subject that contains
+     * {@code keyword}, ignoring case. The view is updated as sessions are added to or removed from the list.
+     *
+     * @param keyword The keyword to search for, which must be a single word.
+     * @return The IDs of the matching sessions.
+     */
+    public Set<Integer> getIdsWithSubjectContaining(String keyword) {
+        return subjectIndex.search(keyword);
+    }
+
+    /**
+     * A view of the IDs of the sessions on {@code date}.
+     */
+    private class SessionIdsOn extends AbstractSet<Integer> {
+        private final LocalDate date;
+
+        private SessionIdsOn(LocalDate date) {
+            this.date = date;
+        }
+
+        private Set<Integer> getBucket() {
+            return dateIndex.getOrDefault(date, Set.of());
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return getBucket().contains(o);
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return Collections.unmodifiableSet(getBucket()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return getBucket().size();
+        }
+    }
+
+    /**
+     * Calls {@code action} with every date from the start date to the end date of the session, inclusive.
+     */
+    private static void forEachDate(Session session, Consumer<LocalDate> action) {
+        LocalDate endDate = session.getTimeslot().getEndTime().toLocalDate();
+        for (LocalDate date = session.getTimeslot().getStartTime().toLocalDate(); !date.isAfter(endDate);
+                date = date.plusDays(1)) {
+            action.accept(date);
+        }
     }
 }
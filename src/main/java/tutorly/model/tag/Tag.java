@@ -3,6 +3,12 @@ package tutorly.model.tag;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import tutorly.commons.util.Interner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -21,6 +27,9 @@ public class Tag {
      */
     public static final String VALIDATION_REGEX = "[^\\s](?s).*";
 
+    private static final Interner<Tag> INTERNER = new Interner<>();
+    private static final Interner<Set<Tag>> SET_INTERNER = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -34,6 +43,28 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the given tag name, so that equal tags share a single instance.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return INTERNER.intern(new Tag(tagName));
+    }
+
+    /**
+     * Returns the canonical unmodifiable set of canonical tags equal to {@code tags}, so that persons with the same tags
+     * share a single set. Like the tags themselves, a set is dropped from the pool once no person uses it.
+     */
+    public static Set<Tag> ofSet(Set<Tag> tags) {
+        requireNonNull(tags);
+        Set<Tag> canonicalTags = new HashSet<>();
+        for (Tag tag : tags) {
+            canonicalTags.add(INTERNER.intern(tag));
+        }
+        return SET_INTERNER.intern(Collections.unmodifiableSet(canonicalTags));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,14 @@
+package tutorly.model.uniquelist;
+
+/**
+ * A listener that is notified of each element added to, removed from or replaced in a {@code UniqueList}.
+ */
+@FunctionalInterface
+public interface ElementChangeListener<T> {
+
+    /**
+     * Called when {@code before} is replaced with {@code after} in the list.
+     * {@code before} is null if {@code after} was added, and {@code after} is null if {@code before} was removed.
+     */
+    void onElementChanged(T before, T after);
+}
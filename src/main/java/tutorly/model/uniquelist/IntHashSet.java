@@ -0,0 +1,184 @@
+package tutorly.model.uniquelist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A hash set of primitive {@code int} values that does not box its values.
+ * Values are stored in a single array using open addressing with linear probing, like {@link IntHashMap}. An empty
+ * slot is marked by {@link Integer#MIN_VALUE}, and whether the set contains that value itself is kept separately.
+ * <p>
+ * Compared to a {@code HashSet<Integer>}, which allocates a node and usually an {@code Integer} for every value (about
+ * 50 bytes per value), this set needs one array slot of 4 bytes per value at a load factor of at most one half. It
+ * starts small, as most sets of the inverted indexes it is used for hold only a few values.
+ */
+public class IntHashSet {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private int[] values;
+    private int size;
+    private boolean containsEmpty;
+
+    /**
+     * Creates an empty {@code IntHashSet}.
+     */
+    public IntHashSet() {
+        values = newTable(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns true if the set contains {@code value}.
+     */
+    public boolean contains(int value) {
+        if (value == EMPTY) {
+            return containsEmpty;
+        }
+        return values[findSlot(value)] == value;
+    }
+
+    /**
+     * Adds {@code value} to the set, and returns true if it was not already in the set.
+     */
+    public boolean add(int value) {
+        if (value == EMPTY) {
+            boolean isAdded = !containsEmpty;
+            containsEmpty = true;
+            size += isAdded ? 1 : 0;
+            return isAdded;
+        }
+
+        int slot = findSlot(value);
+        if (values[slot] == value) {
+            return false;
+        }
+
+        values[slot] = value;
+        if (++size * 2 > values.length) {
+            resize(values.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Removes {@code value} from the set, and returns true if it was in the set.
+     */
+    public boolean remove(int value) {
+        if (value == EMPTY) {
+            boolean isRemoved = containsEmpty;
+            containsEmpty = false;
+            size -= isRemoved ? 1 : 0;
+            return isRemoved;
+        }
+
+        int slot = findSlot(value);
+        if (values[slot] != value) {
+            return false;
+        }
+
+        values[slot] = EMPTY;
+        size--;
+
+        // Shift back the values that follow in the same probe run, so that no lookup stops early at the hole
+        int mask = values.length - 1;
+        int hole = slot;
+        for (int i = (slot + 1) & mask; values[i] != EMPTY; i = (i + 1) & mask) {
+            int home = hash(values[i]) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                values[hole] = values[i];
+                values[i] = EMPTY;
+                hole = i;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of values in the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the set contains no values.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an iterator over the values in the set, in no particular order.
+     * The set must not be modified while the iterator is in use.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int slot = containsEmpty ? -1 : nextSlot(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < values.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                int value = slot == -1 ? EMPTY : values[slot];
+                slot = nextSlot(slot + 1);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns the first occupied slot at or after {@code from}, or the length of the table if there is none.
+     */
+    private int nextSlot(int from) {
+        int slot = from;
+        while (slot < values.length && values[slot] == EMPTY) {
+            slot++;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the slot that holds {@code value}, or the empty slot where it would be inserted.
+     */
+    private int findSlot(int value) {
+        int mask = values.length - 1;
+        int slot = hash(value) & mask;
+        while (values[slot] != EMPTY && values[slot] != value) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        int[] oldValues = values;
+        values = newTable(capacity);
+        for (int value : oldValues) {
+            if (value != EMPTY) {
+                values[findSlot(value)] = value;
+            }
+        }
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    /**
+     * Spreads consecutive values, such as sequential IDs, across the table.
+     */
+    private static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,143 @@
+package tutorly.model.uniquelist;
+
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from primitive {@code int} keys to non-negative primitive {@code int} values that boxes neither.
+ * Entries are stored in parallel key and value arrays using open addressing with linear probing, like
+ * {@link IntHashMap}, with a value of -1 marking an empty slot.
+ * <p>
+ * Compared to an {@code IntHashMap<Integer>}, this map does not allocate an {@code Integer} for values outside the
+ * small integer cache, and keeps its values next to each other instead of behind references.
+ * <p>
+ * Does not allow negative values.
+ */
+public class IntIntHashMap {
+
+    public static final String MESSAGE_NEGATIVE_VALUE = "Values must not be negative.";
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * Creates an empty {@code IntIntHashMap}.
+     */
+    public IntIntHashMap() {
+        keys = new int[INITIAL_CAPACITY];
+        values = newTable(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or -1 if there is no such value.
+     */
+    public int get(int key) {
+        return values[findSlot(key)];
+    }
+
+    /**
+     * Returns true if there is a value mapped to {@code key}.
+     */
+    public boolean containsKey(int key) {
+        return values[findSlot(key)] != EMPTY;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, and returns the value previously mapped to {@code key}, or -1 if there was
+     * no such value.
+     */
+    public int put(int key, int value) {
+        checkArgument(value >= 0, MESSAGE_NEGATIVE_VALUE);
+
+        int slot = findSlot(key);
+        int previous = values[slot];
+        keys[slot] = key;
+        values[slot] = value;
+
+        if (previous == EMPTY && ++size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        return previous;
+    }
+
+    /**
+     * Removes the value mapped to {@code key}, and returns it, or -1 if there was no such value.
+     */
+    public int remove(int key) {
+        int slot = findSlot(key);
+        int previous = values[slot];
+        if (previous == EMPTY) {
+            return EMPTY;
+        }
+
+        values[slot] = EMPTY;
+        size--;
+
+        // Shift back the entries that follow in the same probe run, so that no lookup stops early at the hole
+        int mask = keys.length - 1;
+        int hole = slot;
+        for (int i = (slot + 1) & mask; values[i] != EMPTY; i = (i + 1) & mask) {
+            int home = hash(keys[i]) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                values[i] = EMPTY;
+                hole = i;
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot that holds {@code key}, or the empty slot where it would be inserted.
+     */
+    private int findSlot(int key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (values[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = newTable(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != EMPTY) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    /**
+     * Spreads consecutive keys, such as sequential IDs, across the table.
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
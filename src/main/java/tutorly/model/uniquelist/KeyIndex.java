@@ -0,0 +1,147 @@
+package tutorly.model.uniquelist;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * An index of elements by their keys, used by {@code UniqueList} to find equivalent elements.
+ * The elements are stored in an array using open addressing with linear probing, next to the hash codes of their keys.
+ * Keys are not stored, but recomputed from the elements with the key function when the hash codes match.
+ * <p>
+ * Compared to a {@code HashMap} from keys to elements, which allocates a node and often a key object for every entry
+ * (about 50 bytes per entry), this index only needs a hash slot and an element slot (8 bytes with compressed
+ * references) at a load factor of at most one half, and no per-entry objects.
+ * <p>
+ * Does not allow null elements. The keys of the elements must not change while they are in the index.
+ */
+class KeyIndex<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Function<T, Object> keyFunction;
+    private int[] hashes;
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Creates an empty {@code KeyIndex} that indexes elements by the keys returned by {@code keyFunction}.
+     */
+    KeyIndex(Function<T, Object> keyFunction) {
+        this.keyFunction = keyFunction;
+        hashes = new int[INITIAL_CAPACITY];
+        elements = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the element with the given key, or null if there is no such element.
+     */
+    @SuppressWarnings("unchecked")
+    T get(Object key) {
+        return (T) elements[findSlot(key, hash(key))];
+    }
+
+    /**
+     * Returns true if there is an element with the given key.
+     */
+    boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Adds {@code element} to the index, replacing the element with the same key if there is one.
+     */
+    void put(T element) {
+        Object key = keyFunction.apply(element);
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        boolean isNewKey = elements[slot] == null;
+        hashes[slot] = hash;
+        elements[slot] = element;
+
+        if (isNewKey && ++size * 2 > elements.length) {
+            resize(elements.length * 2);
+        }
+    }
+
+    /**
+     * Removes the element with the given key, if there is one.
+     */
+    void remove(Object key) {
+        int slot = findSlot(key, hash(key));
+        if (elements[slot] == null) {
+            return;
+        }
+
+        elements[slot] = null;
+        size--;
+
+        // Shift back the entries that follow in the same probe run, so that no lookup stops early at the hole
+        int mask = elements.length - 1;
+        int hole = slot;
+        for (int i = (slot + 1) & mask; elements[i] != null; i = (i + 1) & mask) {
+            int home = hashes[i] & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                hashes[hole] = hashes[i];
+                elements[hole] = elements[i];
+                elements[i] = null;
+                hole = i;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in the index.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements from the index.
+     */
+    void clear() {
+        Arrays.fill(elements, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the slot that holds the element with the given key, or the empty slot where it would be inserted.
+     */
+    @SuppressWarnings("unchecked")
+    private int findSlot(Object key, int hash) {
+        int mask = elements.length - 1;
+        int slot = hash & mask;
+        while (elements[slot] != null
+                && (hashes[slot] != hash || !keyFunction.apply((T) elements[slot]).equals(key))) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        int[] oldHashes = hashes;
+        Object[] oldElements = elements;
+        hashes = new int[capacity];
+        elements = new Object[capacity];
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldElements.length; i++) {
+            if (oldElements[i] != null) {
+                int slot = oldHashes[i] & mask;
+                while (elements[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = oldHashes[i];
+                elements[slot] = oldElements[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads the hash codes of keys, such as sequential IDs, across the table.
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
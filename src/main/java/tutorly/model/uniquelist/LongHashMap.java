@@ -0,0 +1,147 @@
+package tutorly.model.uniquelist;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from primitive {@code long} keys to values that does not box its keys.
+ * Entries are stored in parallel key and value arrays using open addressing with linear probing, so a lookup touches
+ * a few adjacent array slots instead of following a chain of {@code HashMap} nodes.
+ * <p>
+ * Compared to a {@code HashMap<Long, V>}, which allocates a node and usually a {@code Long} for every entry
+ * (about 55 bytes per entry), this map only needs a key slot and a value slot (12 bytes with compressed references)
+ * at a load factor of at most one half, which is 24 to 48 bytes per entry and no per-entry objects.
+ * <p>
+ * Does not allow null values.
+ */
+public class LongHashMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Creates an empty {@code LongHashMap}.
+     */
+    public LongHashMap() {
+        keys = new long[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is no such value.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int slot = findSlot(key);
+        return (V) values[slot];
+    }
+
+    /**
+     * Returns true if there is a value mapped to {@code key}.
+     */
+    public boolean containsKey(long key) {
+        return values[findSlot(key)] != null;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, and returns the value previously mapped to {@code key}, or null if there was
+     * no such value.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+
+        int slot = findSlot(key);
+        V previous = (V) values[slot];
+        keys[slot] = key;
+        values[slot] = value;
+
+        if (previous == null && ++size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        return previous;
+    }
+
+    /**
+     * Removes the value mapped to {@code key}, and returns it, or null if there was no such value.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int slot = findSlot(key);
+        V previous = (V) values[slot];
+        if (previous == null) {
+            return null;
+        }
+
+        values[slot] = null;
+        size--;
+
+        // Shift back the entries that follow in the same probe run, so that no lookup stops early at the hole
+        int mask = keys.length - 1;
+        int hole = slot;
+        for (int i = (slot + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = hash(keys[i]) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                values[i] = null;
+                hole = i;
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries from the map.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the slot that holds {@code key}, or the empty slot where it would be inserted.
+     */
+    private int findSlot(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads keys that differ only in their high or low bits, such as pairs of sequential IDs, across the table.
+     */
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
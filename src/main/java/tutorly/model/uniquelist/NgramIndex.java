@@ -0,0 +1,208 @@
+package tutorly.model.uniquelist;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import tutorly.commons.util.StringUtil;
+
+/**
+ * An inverted index from the short substrings (n-grams) of the words in a text to the IDs of the elements whose text
+ * contains them, used to find the elements that have a word containing a keyword, ignoring case, without scanning
+ * every element.
+ * Every substring of up to {@code MAX_GRAM_LENGTH} characters of every word is indexed, so a keyword of up to that
+ * length is looked up directly. A longer keyword is looked up by the least common of its substrings of that length,
+ * and only those candidates are checked against their words.
+ * <p>
+ * The IDs of each n-gram are kept in an {@link IntHashSet}, which is removed as soon as it becomes empty, so that the
+ * index only holds n-grams of indexed words. Searches return views that look the n-grams up again on each read, so
+ * they stay up to date without the index keeping an entry for every keyword searched for.
+ */
+public class NgramIndex {
+
+    static final int MAX_GRAM_LENGTH = 3;
+
+    private final Map<String, IntHashSet> postings = new HashMap<>();
+    private final IntHashMap<String[]> wordsById = new IntHashMap<>();
+
+    /**
+     * Indexes the words of {@code text} for the element with the given {@code id}, replacing any text already indexed
+     * for that ID.
+     */
+    public void add(int id, String text) {
+        requireNonNull(text);
+        add(id, StringUtil.toSearchTokens(text));
+    }
+
+    /**
+     * Indexes the {@code searchTokens} of a text for the element with the given {@code id}, replacing any text already
+     * indexed for that ID. The array is kept by the index, so that tokens cached on the element are not copied, and
+     * must not be modified afterwards.
+     *
+     * @param searchTokens the words of the text in lower case, as returned by {@link StringUtil#toSearchTokens(String)}
+     */
+    public void add(int id, String[] searchTokens) {
+        requireNonNull(searchTokens);
+        remove(id);
+
+        wordsById.put(id, searchTokens);
+        forEachGram(searchTokens, gram -> postings.computeIfAbsent(gram, unused -> new IntHashSet()).add(id));
+    }
+
+    /**
+     * Removes the text indexed for the element with the given {@code id}, if there is one.
+     */
+    public void remove(int id) {
+        String[] words = wordsById.remove(id);
+        if (words != null) {
+            forEachGram(words, gram -> {
+                IntHashSet posting = postings.get(gram);
+                if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the IDs of the elements that have a word containing {@code keyword}, ignoring
+     * case. The view is updated as elements are added to or removed from the index.
+     *
+     * @param keyword cannot be empty, must be a single word
+     */
+    public Set<Integer> search(String keyword) {
+        requireNonNull(keyword);
+        String preppedKeyword = keyword.trim().toLowerCase();
+        checkArgument(!preppedKeyword.isEmpty(), "Keyword parameter cannot be empty");
+
+        if (preppedKeyword.length() <= MAX_GRAM_LENGTH) {
+            return new PostingIds(preppedKeyword);
+        }
+        return new MatchingIds(preppedKeyword);
+    }
+
+    /**
+     * Returns the number of n-grams in the index.
+     */
+    int getGramCount() {
+        return postings.size();
+    }
+
+    /**
+     * Calls {@code action} with every substring of up to {@code MAX_GRAM_LENGTH} characters of every word.
+     */
+    private static void forEachGram(String[] words, Consumer<String> action) {
+        for (String word : words) {
+            for (int start = 0; start < word.length(); start++) {
+                int maxEnd = Math.min(word.length(), start + MAX_GRAM_LENGTH);
+                for (int end = start + 1; end <= maxEnd; end++) {
+                    action.accept(word.substring(start, end));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over the IDs in {@code ids}, or an empty iterator if {@code ids} is null.
+     */
+    private static Iterator<Integer> iterate(IntHashSet ids) {
+        return ids == null ? Collections.emptyIterator() : ids.iterator();
+    }
+
+    /**
+     * A view of the IDs of the elements that have a word containing {@code gram}.
+     */
+    private class PostingIds extends AbstractSet<Integer> {
+        private final String gram;
+
+        private PostingIds(String gram) {
+            this.gram = gram;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            IntHashSet posting = postings.get(gram);
+            return o instanceof Integer id && posting != null && posting.contains(id);
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return iterate(postings.get(gram));
+        }
+
+        @Override
+        public int size() {
+            IntHashSet posting = postings.get(gram);
+            return posting == null ? 0 : posting.size();
+        }
+    }
+
+    /**
+     * A view of the IDs of the elements that have a word containing {@code keyword}, which is longer than
+     * {@code MAX_GRAM_LENGTH}. The elements are found among the IDs of the least common n-gram of {@code keyword}.
+     */
+    private class MatchingIds extends AbstractSet<Integer> {
+        private final String keyword;
+
+        private MatchingIds(String keyword) {
+            this.keyword = keyword;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Integer id)) {
+                return false;
+            }
+            String[] words = wordsById.get(id);
+            return words != null && StringUtil.anyTokenContains(words, keyword);
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            List<Integer> ids = new ArrayList<>();
+            iterate(getCandidates()).forEachRemaining(id -> {
+                if (contains(id)) {
+                    ids.add(id);
+                }
+            });
+            return Collections.unmodifiableList(ids).iterator();
+        }
+
+        @Override
+        public int size() {
+            int count = 0;
+            for (Iterator<Integer> it = iterate(getCandidates()); it.hasNext();) {
+                if (contains(it.next())) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Returns the IDs of the least common n-gram of the keyword, or null if an n-gram is not in the index.
+         */
+        private IntHashSet getCandidates() {
+            IntHashSet candidates = null;
+            for (int i = 0; i + MAX_GRAM_LENGTH <= keyword.length(); i++) {
+                IntHashSet posting = postings.get(keyword.substring(i, i + MAX_GRAM_LENGTH));
+                if (posting == null) {
+                    return null;
+                }
+                if (candidates == null || posting.size() < candidates.size()) {
+                    candidates = posting;
+                }
+            }
+            return candidates;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package tutorly.model.uniquelist;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import tutorly.commons.util.StringUtil;
+
+/**
+ * An index of the words in a text to the IDs of the elements whose text contains them, used to find the elements that
+ * have a word similar to a keyword, ignoring case, without comparing the keyword to every word.
+ * Each distinct word is indexed by its bigrams, the pairs of adjacent characters of the word with a boundary marker
+ * added at either end. A word of length {@code n} has {@code n + 1} bigrams, and each edit changes at most two of them,
+ * so a word within {@code d} edits of a keyword of length {@code n} shares at least {@code n + 1 - 2d} bigrams with
+ * it. Only the words that share that many bigrams are compared to the keyword.
+ * <p>
+ * Words that are no longer in any text are kept in the index until they outnumber the other words, when the index is
+ * rebuilt.
+ */
+public class SimilarWordIndex {
+
+    private static final char BOUNDARY = '\0';
+
+    private final Map<String, Integer> wordNumbers = new HashMap<>();
+    private final List<String> words = new ArrayList<>();
+    private final List<Set<Integer>> idsByWord = new ArrayList<>();
+    private final IntHashMap<WordNumbers> postings = new IntHashMap<>();
+    private final IntHashMap<String[]> wordsById = new IntHashMap<>();
+    private int liveWordCount;
+    private int modificationCount;
+
+    /**
+     * A growable list of word numbers.
+     */
+    private static class WordNumbers {
+        private int[] numbers = new int[4];
+        private int size;
+
+        private void add(int number) {
+            if (size == numbers.length) {
+                numbers = Arrays.copyOf(numbers, size * 2);
+            }
+            numbers[size++] = number;
+        }
+    }
+
+    /**
+     * Indexes the {@code searchTokens} of a text for the element with the given {@code id}, replacing any text already
+     * indexed for that ID. The array is kept by the index, and must not be modified afterwards.
+     *
+     * @param searchTokens the words of the text in lower case, as returned by {@link StringUtil#toSearchTokens(String)}
+     */
+    public void add(int id, String[] searchTokens) {
+        requireNonNull(searchTokens);
+        remove(id);
+
+        wordsById.put(id, searchTokens);
+        for (String word : searchTokens) {
+            Set<Integer> ids = idsByWord.get(getWordNumber(word));
+            if (ids.isEmpty()) {
+                liveWordCount++;
+            }
+            ids.add(id);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the text indexed for the element with the given {@code id}, if there is one.
+     */
+    public void remove(int id) {
+        String[] removedWords = wordsById.remove(id);
+        if (removedWords == null) {
+            return;
+        }
+
+        for (String word : removedWords) {
+            Set<Integer> ids = idsByWord.get(wordNumbers.get(word));
+            if (ids.remove(id) && ids.isEmpty()) {
+                liveWordCount--;
+            }
+        }
+        modificationCount++;
+
+        if (words.size() > 2 * liveWordCount + 64) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the IDs of the elements that have a word within
+     * {@link StringUtil#maxEditDistance(int)} edits of {@code keyword}, ignoring case. The view is updated as elements
+     * are added to or removed from the index.
+     *
+     * @param keyword cannot be empty, must be a single word
+     */
+    public Set<Integer> search(String keyword) {
+        requireNonNull(keyword);
+        String preppedKeyword = keyword.trim().toLowerCase();
+        checkArgument(!preppedKeyword.isEmpty(), "Keyword parameter cannot be empty");
+
+        return new SimilarIds(preppedKeyword);
+    }
+
+    /**
+     * Returns the IDs of the elements that have a word within {@code maxDistance} edits of {@code keyword}.
+     */
+    private Set<Integer> collectSimilar(String keyword, int maxDistance) {
+        // Count the bigrams that each word shares with the keyword. A bigram repeated in the keyword is counted for
+        // each repetition, which can only let more words through to be compared.
+        int[] sharedCounts = new int[words.size()];
+        WordNumbers sharing = new WordNumbers();
+        forEachBigram(keyword, bigram -> {
+            WordNumbers posting = postings.get(bigram);
+            if (posting != null) {
+                for (int i = 0; i < posting.size; i++) {
+                    if (sharedCounts[posting.numbers[i]]++ == 0) {
+                        sharing.add(posting.numbers[i]);
+                    }
+                }
+            }
+        });
+
+        // Positive for the distances allowed by StringUtil#maxEditDistance, so every similar word is counted above
+        int minSharedCount = keyword.length() + 1 - 2 * maxDistance;
+        assert minSharedCount > 0;
+        Set<Integer> found = new HashSet<>();
+        for (int i = 0; i < sharing.size; i++) {
+            int number = sharing.numbers[i];
+            Set<Integer> ids = idsByWord.get(number);
+            String word = words.get(number);
+            if (sharedCounts[number] >= minSharedCount && !ids.isEmpty()
+                    && Math.abs(word.length() - keyword.length()) <= maxDistance
+                    && StringUtil.editDistance(word, keyword) <= maxDistance) {
+                found.addAll(ids);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of {@code word}, adding it to the index if it is not already there.
+     */
+    private int getWordNumber(String word) {
+        Integer existingNumber = wordNumbers.get(word);
+        if (existingNumber != null) {
+            return existingNumber;
+        }
+
+        int number = words.size();
+        wordNumbers.put(word, number);
+        words.add(word);
+        idsByWord.add(new HashSet<>());
+        forEachBigram(word, bigram -> {
+            WordNumbers posting = postings.get(bigram);
+            if (posting == null) {
+                posting = new WordNumbers();
+                postings.put(bigram, posting);
+            }
+            // A bigram repeated in the word is only listed once
+            if (posting.size == 0 || posting.numbers[posting.size - 1] != number) {
+                posting.add(number);
+            }
+        });
+        return number;
+    }
+
+    /**
+     * Rebuilds the index from the words that are still in some text.
+     */
+    private void rebuild() {
+        List<String> oldWords = new ArrayList<>(words);
+        List<Set<Integer>> oldIds = new ArrayList<>(idsByWord);
+        wordNumbers.clear();
+        words.clear();
+        idsByWord.clear();
+        postings.clear();
+
+        for (int i = 0; i < oldWords.size(); i++) {
+            if (!oldIds.get(i).isEmpty()) {
+                idsByWord.get(getWordNumber(oldWords.get(i))).addAll(oldIds.get(i));
+            }
+        }
+    }
+
+    /**
+     * Calls {@code action} with each bigram of {@code word}, including those with the boundary markers, encoded as an
+     * {@code int}.
+     */
+    private static void forEachBigram(String word, IntConsumer action) {
+        char previous = BOUNDARY;
+        for (int i = 0; i <= word.length(); i++) {
+            char current = i < word.length() ? word.charAt(i) : BOUNDARY;
+            action.accept(previous << 16 | current);
+            previous = current;
+        }
+    }
+
+    /**
+     * A view of the IDs of the elements that have a word similar to {@code keyword}, which is searched for again
+     * whenever the index has been modified since the last search.
+     */
+    private class SimilarIds extends AbstractSet<Integer> {
+        private final String keyword;
+        private Set<Integer> ids = Collections.emptySet();
+        private int searchedModificationCount = -1;
+
+        private SimilarIds(String keyword) {
+            this.keyword = keyword;
+        }
+
+        private Set<Integer> getIds() {
+            if (searchedModificationCount != modificationCount) {
+                int maxDistance = StringUtil.maxEditDistance(keyword.length());
+                ids = Collections.unmodifiableSet(collectSimilar(keyword, maxDistance));
+                searchedModificationCount = modificationCount;
+            }
+            return ids;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return getIds().contains(o);
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return getIds().iterator();
+        }
+
+        @Override
+        public int size() {
+            return getIds().size();
+        }
+    }
+}
@@ -3,37 +3,73 @@ package tutorly.model.uniquelist;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import tutorly.commons.util.BatchableObservableList;
 import tutorly.commons.util.ObservableListUtil;
 import tutorly.model.uniquelist.exceptions.DuplicateElementException;
 import tutorly.model.uniquelist.exceptions.ElementNotFoundException;
 
 /**
  * A list that enforces uniqueness between its elements and does not allow nulls.
- * An element is considered unique by comparing using {@code UniqueList<T>#isEquivalent(T, T)}. As such, adding and
- * updating of elements uses {@code UniqueList<T>#isEquivalent(T, T)} for equivalence so as to ensure that the element
- * being added or updated is unique in the UniqueList. However, the removal of an element uses {@code T#equals(Object)}
- * so as to ensure that the exact element will be removed.
+ * An element is considered unique by comparing the keys returned by {@code UniqueList<T>#getKey(T)}. As such, adding
+ * and updating of elements uses {@code UniqueList<T>#isEquivalent(T, T)} for equivalence so as to ensure that the
+ * element being added or updated is unique in the UniqueList. However, the removal of an element uses
+ * {@code T#equals(Object)} so as to ensure that the exact element will be removed.
+ * The elements are indexed by their keys, so equivalence checks and lookups do not need to scan the list.
  * Order can be enforced by implementing {@code UniqueList<T>#compare(T, T)}. This guarantees that the list will always
- * be sorted in the defined order.
+ * be sorted in the defined order. Elements are inserted at their sorted position found by binary search, so that each
+ * addition or update is reported to listeners as a single change instead of a re-sort of the whole list.
+ * Modifications made during a batch are logged so that {@link #undoBatch()} can undo them in reverse.
  * <p>
  * Supports a minimal set of list operations.
  */
 public class UniqueList<T> implements Iterable<T> {
 
-    protected final ObservableList<T> internalList = ObservableListUtil.arrayList();
-    protected final ObservableList<T> internalUnmodifiableList = ObservableListUtil.unmodifiableList(internalList);
+    protected final BatchableObservableList<T> internalList;
+    protected final ObservableList<T> internalUnmodifiableList;
+
+    private final KeyIndex<T> keyIndex = new KeyIndex<>(this::getKey);
+    private final List<ElementChangeListener<T>> elementChangeListeners = new ArrayList<>();
+
+    // Undoes each modification made during the current batch, in the order they were made, or null outside a batch
+    private List<Runnable> undoLog;
+    // Position in the undo log at which each nested batch started, innermost first
+    private final Deque<Integer> batchStarts = new ArrayDeque<>();
+
+    /**
+     * Creates an empty list that keeps its elements in an {@code ArrayList}.
+     */
+    public UniqueList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Creates a list that keeps its elements in {@code elements}, which must be empty and support adding, replacing and
+     * removing elements at any position. A list that creates its elements on demand, rather than keeping the elements
+     * it was given, must also override {@link #indexOf(Object)}.
+     */
+    protected UniqueList(List<T> elements) {
+        requireNonNull(elements);
+        internalList = new BatchableObservableList<>(elements);
+        internalUnmodifiableList = ObservableListUtil.unmodifiableList(internalList);
+    }
 
     /**
      * Returns true if the list contains an equivalent element as the given argument.
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(element -> isEquivalent(element, toCheck));
+        return findEquivalent(toCheck) != null;
     }
 
     /**
@@ -41,9 +77,17 @@ public class UniqueList<T> implements Iterable<T> {
      */
     public Optional<T> find(T toFind) {
         requireNonNull(toFind);
-        return internalList.stream()
-                .filter(element -> isEquivalent(element, toFind))
-                .findFirst();
+        return Optional.ofNullable(findEquivalent(toFind));
+    }
+
+    /**
+     * Returns the element in the list with the given key.
+     *
+     * @see #getKey(Object)
+     */
+    protected Optional<T> findByKey(Object key) {
+        requireNonNull(key);
+        return Optional.ofNullable(keyIndex.get(key));
     }
 
     /**
@@ -56,8 +100,50 @@ public class UniqueList<T> implements Iterable<T> {
             throw new DuplicateElementException();
         }
 
-        internalList.add(toAdd);
-        internalList.sort(this::compare);
+        index(toAdd);
+        fireElementChanged(null, toAdd);
+        int index = insertionIndex(toAdd, 0, internalList.size());
+        internalList.add(index, toAdd);
+        logUndo(() -> removeAt(index));
+    }
+
+    /**
+     * Adds all elements in {@code toAdd} to the list.
+     * The elements must not already exist in the list and must not contain duplicates among themselves.
+     * The elements are checked for duplicates by their keys and sorted once, and the list publishes a single change.
+     */
+    public void addAll(List<T> toAdd) {
+        requireCanAddAll(toAdd);
+
+        List<T> sortedToAdd = new ArrayList<>(toAdd);
+        sortedToAdd.sort(this::compare);
+        sortedToAdd.forEach(this::index);
+        sortedToAdd.forEach(element -> fireElementChanged(null, element));
+
+        if (internalList.isEmpty() || sortedToAdd.isEmpty()
+                || compare(internalList.get(internalList.size() - 1), sortedToAdd.get(0)) <= 0) {
+            int from = internalList.size();
+            internalList.addAll(sortedToAdd);
+            logUndo(() -> removeRange(from, internalList.size()));
+        } else {
+            logUndoContents();
+            internalList.setAll(merge(internalList, sortedToAdd));
+        }
+    }
+
+    /**
+     * Checks that all elements in {@code toAdd} can be added to the list with {@link #addAll(List)}, without modifying
+     * the list or the elements.
+     *
+     * @throws DuplicateElementException if an element of {@code toAdd} is equivalent to another element of
+     *     {@code toAdd} or of the list.
+     */
+    public void requireCanAddAll(List<T> toAdd) {
+        requireAllNonNull(toAdd);
+        requireUniqueKeys(toAdd);
+        if (toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateElementException();
+        }
     }
 
     /**
@@ -68,7 +154,7 @@ public class UniqueList<T> implements Iterable<T> {
     public void set(T target, T edited) {
         requireAllNonNull(target, edited);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ElementNotFoundException();
         }
@@ -77,8 +163,24 @@ public class UniqueList<T> implements Iterable<T> {
             throw new DuplicateElementException();
         }
 
-        internalList.set(index, edited);
-        internalList.sort(this::compare);
+        T replaced = internalList.get(index);
+        unindex(replaced);
+        index(edited);
+        fireElementChanged(replaced, edited);
+
+        if (isInOrderAt(index, edited)) {
+            internalList.set(index, edited);
+            logUndo(() -> replace(index, index, replaced));
+            return;
+        }
+
+        // The edited element has moved, so reinsert it where a stable sort would have placed it
+        internalList.remove(index);
+        int lower = lowerBound(edited, 0, internalList.size());
+        int upper = insertionIndex(edited, lower, internalList.size());
+        int newIndex = Math.max(lower, Math.min(index, upper));
+        internalList.add(newIndex, edited);
+        logUndo(() -> replace(newIndex, index, replaced));
     }
 
     /**
@@ -87,9 +189,38 @@ public class UniqueList<T> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ElementNotFoundException();
         }
+
+        T removed = internalList.get(index);
+        unindex(removed);
+        fireElementChanged(removed, null);
+        internalList.remove(index);
+        logUndo(() -> insertAt(index, removed));
+    }
+
+    /**
+     * Removes all elements of the list that satisfy {@code filter}, and returns the removed elements in list order.
+     * The list is scanned once, and the list publishes a single change.
+     */
+    public List<T> removeIf(Predicate<T> filter) {
+        requireNonNull(filter);
+
+        List<T> removed = new ArrayList<>();
+        List<T> remaining = new ArrayList<>(internalList.size());
+        for (T element : internalList) {
+            (filter.test(element) ? removed : remaining).add(element);
+        }
+
+        if (!removed.isEmpty()) {
+            removed.forEach(this::unindex);
+            removed.forEach(element -> fireElementChanged(element, null));
+            logUndoContents();
+            internalList.setAll(remaining);
+        }
+        return removed;
     }
 
     /**
@@ -103,15 +234,74 @@ public class UniqueList<T> implements Iterable<T> {
     /**
      * Replaces the contents of this list with {@code replacement}.
      * {@code replacement} must not contain duplicate elements.
+     * The elements are checked for duplicates by their keys and sorted once, and the list publishes a single change.
      */
     public void setAll(List<T> replacement) {
         requireAllNonNull(replacement);
-        if (!elementsAreUnique(replacement)) {
-            throw new DuplicateElementException();
+        requireUniqueKeys(replacement);
+
+        List<T> sortedReplacement = new ArrayList<>(replacement);
+        sortedReplacement.sort(this::compare);
+
+        logUndoContents();
+        replaceContents(sortedReplacement);
+    }
+
+    /**
+     * Starts a batch of modifications to the list. Listeners of the list are notified of all modifications made until
+     * the matching {@link #endBatch()} as a single change. Batches can be nested.
+     */
+    public void beginBatch() {
+        if (undoLog == null) {
+            undoLog = new ArrayList<>();
+        }
+        batchStarts.push(undoLog.size());
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of modifications to the list started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+        batchStarts.pop();
+        if (batchStarts.isEmpty()) {
+            undoLog = null;
+        }
+    }
+
+    /**
+     * Undoes all modifications made to the list since the start of the current batch, latest first, leaving the
+     * list as it was when the batch started. Element change listeners are notified of each undone modification.
+     * Must be called before the matching {@link #endBatch()}.
+     */
+    public void undoBatch() {
+        assert undoLog != null;
+
+        List<Runnable> undos = undoLog.subList(batchStarts.peek(), undoLog.size());
+        List<Runnable> toUndo = new ArrayList<>(undos);
+        undos.clear();
+
+        // Undoing modifies the list too, but must not be logged itself
+        List<Runnable> log = undoLog;
+        undoLog = null;
+        try {
+            for (int i = toUndo.size() - 1; i >= 0; i--) {
+                toUndo.get(i).run();
+            }
+        } finally {
+            undoLog = log;
         }
+    }
 
-        internalList.setAll(replacement);
-        internalList.sort(this::compare);
+    /**
+     * Adds a listener that is notified of each element added to, removed from or replaced in the list.
+     * Unlike listeners of {@link #asUnmodifiableObservableList()}, the listener is notified of each element as soon as
+     * it changes, even during a batch, and is told which element replaced which.
+     */
+    public void addElementChangeListener(ElementChangeListener<T> listener) {
+        requireNonNull(listener);
+        elementChangeListeners.add(listener);
     }
 
     /**
@@ -133,6 +323,9 @@ public class UniqueList<T> implements Iterable<T> {
      * Removes all elements from the list.
      */
     public void clear() {
+        logUndoContents();
+        internalList.forEach(this::unindex);
+        internalList.forEach(element -> fireElementChanged(element, null));
         internalList.clear();
     }
 
@@ -166,26 +359,256 @@ public class UniqueList<T> implements Iterable<T> {
     }
 
     /**
-     * Returns true if the list contains only unique elements.
+     * Records {@code element} in the indexes of the list. Called before the element is added to the list, so that
+     * listeners of the list see up-to-date indexes.
+     */
+    private void index(T element) {
+        addToKeyIndex(element);
+        onElementAdded(element);
+    }
+
+    /**
+     * Removes {@code element} from the indexes of the list. Called before the element is removed from the list, so
+     * that listeners of the list see up-to-date indexes.
+     */
+    private void unindex(T element) {
+        removeFromKeyIndex(element);
+        onElementRemoved(element);
+    }
+
+    /**
+     * Logs {@code undo} as the way to undo the latest modification, if the list is in a batch.
+     */
+    private void logUndo(Runnable undo) {
+        if (undoLog != null) {
+            undoLog.add(undo);
+        }
+    }
+
+    /**
+     * Logs the current contents of the list to be restored as the way to undo the next modification, if the list is
+     * in a batch. Used for modifications that rewrite the whole list, which take linear time already.
+     */
+    private void logUndoContents() {
+        if (undoLog != null) {
+            List<T> contents = new ArrayList<>(internalList);
+            undoLog.add(() -> replaceContents(contents));
+        }
+    }
+
+    /**
+     * Inserts {@code element} at position {@code index} of the list.
+     */
+    private void insertAt(int index, T element) {
+        index(element);
+        fireElementChanged(null, element);
+        internalList.add(index, element);
+    }
+
+    /**
+     * Removes the element at position {@code index} of the list.
+     */
+    private void removeAt(int index) {
+        T removed = internalList.get(index);
+        unindex(removed);
+        fireElementChanged(removed, null);
+        internalList.remove(index);
+    }
+
+    /**
+     * Removes the elements at positions {@code [from, to)} of the list.
+     */
+    private void removeRange(int from, int to) {
+        List<T> removed = internalList.subList(from, to);
+        removed.forEach(this::unindex);
+        removed.forEach(element -> fireElementChanged(element, null));
+        internalList.remove(from, to);
+    }
+
+    /**
+     * Replaces the element at position {@code from} of the list with {@code element}, placed at position {@code to}.
+     */
+    private void replace(int from, int to, T element) {
+        T replaced = internalList.get(from);
+        unindex(replaced);
+        index(element);
+        fireElementChanged(replaced, element);
+        if (from == to) {
+            internalList.set(from, element);
+        } else {
+            internalList.remove(from);
+            internalList.add(to, element);
+        }
+    }
+
+    /**
+     * Replaces the contents of the list with {@code contents}, which must be sorted and free of duplicates.
+     */
+    private void replaceContents(List<T> contents) {
+        internalList.forEach(this::unindex);
+        contents.forEach(this::index);
+        internalList.forEach(element -> fireElementChanged(element, null));
+        contents.forEach(element -> fireElementChanged(null, element));
+        internalList.setAll(contents);
+    }
+
+    private void fireElementChanged(T before, T after) {
+        for (ElementChangeListener<T> listener : elementChangeListeners) {
+            listener.onElementChanged(before, after);
+        }
+    }
+
+    /**
+     * Returns the position of the element equal to {@code element} in the list, or -1 if there is no such element.
+     * The element is found by the identity of the element equivalent to it in the list.
+     */
+    protected int indexOf(T element) {
+        T indexed = findEquivalent(element);
+        if (indexed == null || !indexed.equals(element)) {
+            return -1;
+        }
+
+        // Only the run of elements that compare equal to the indexed element needs to be searched
+        int from = lowerBound(indexed, 0, internalList.size());
+        int to = insertionIndex(indexed, from, internalList.size());
+        for (int i = from; i < to; i++) {
+            if (internalList.get(i) == indexed) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if {@code element} is in sorted order when placed at {@code index}, ignoring the element currently
+     * at {@code index}.
+     */
+    private boolean isInOrderAt(int index, T element) {
+        return (index == 0 || compare(internalList.get(index - 1), element) <= 0)
+                && (index == internalList.size() - 1 || compare(element, internalList.get(index + 1)) <= 0);
+    }
+
+    /**
+     * Returns the first position in {@code [from, to)} before which all elements compare less than {@code element}.
+     */
+    private int lowerBound(T element, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(internalList.get(mid), element) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position in {@code [from, to)} after the last element that compares less than or equal to
+     * {@code element}, so that inserting there keeps the list sorted and preserves the order of equal elements.
+     */
+    private int insertionIndex(T element, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(internalList.get(mid), element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the keys of the elements in {@code list}.
+     *
+     * @throws DuplicateElementException if {@code list} contains equivalent elements.
+     */
+    private Set<Object> requireUniqueKeys(List<T> list) {
+        Set<Object> keys = new HashSet<>();
+        for (T element : list) {
+            if (!keys.add(getKey(element))) {
+                throw new DuplicateElementException();
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the elements of the sorted lists {@code first} and {@code second} merged in sorted order.
+     * Elements of {@code first} are placed before equally-ordered elements of {@code second}.
      */
-    private boolean elementsAreUnique(List<T> list) {
-        for (int i = 0; i < list.size() - 1; i++) {
-            for (int j = i + 1; j < list.size(); j++) {
-                if (isEquivalent(list.get(i), list.get(j))) {
-                    return false;
-                }
+    private List<T> merge(List<T> first, List<T> second) {
+        List<T> merged = new ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (i < first.size() && j < second.size()) {
+            if (compare(first.get(i), second.get(j)) <= 0) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
             }
         }
-        return true;
+        merged.addAll(first.subList(i, first.size()));
+        merged.addAll(second.subList(j, second.size()));
+        return merged;
     }
 
     /**
      * Returns true if two elements are equivalent, and false otherwise.
+     * Two elements are equivalent if they have equal keys.
+     */
+    protected final boolean isEquivalent(T element1, T element2) {
+        return getKey(element1).equals(getKey(element2));
+    }
+
+    /**
+     * Returns the key that identifies the element in the list. Elements with equal keys are considered equivalent.
+     * The returned key must implement {@code Object#hashCode()} consistently with {@code Object#equals(Object)}, and
+     * must not change while the element is in the list.
+     */
+    protected Object getKey(T element) {
+        return element;
+    }
+
+    /**
+     * Returns the element in the list that is equivalent to {@code element}, or null if there is no such element.
+     * Subclasses can override this, together with {@link #addToKeyIndex(Object)} and
+     * {@link #removeFromKeyIndex(Object)}, to look up elements in their own index of keys instead, in which case
+     * {@link #findByKey(Object)} is not supported.
+     */
+    protected T findEquivalent(T element) {
+        return keyIndex.get(getKey(element));
+    }
+
+    /**
+     * Records {@code element} in the index of keys. Called before the element is added to the list.
      */
-    protected boolean isEquivalent(T element1, T element2) {
-        return element1.equals(element2);
+    protected void addToKeyIndex(T element) {
+        keyIndex.put(element);
     }
 
+    /**
+     * Removes {@code element} from the index of keys. Called before the element is removed from the list.
+     */
+    protected void removeFromKeyIndex(T element) {
+        keyIndex.remove(getKey(element));
+    }
+
+    /**
+     * Called when {@code element} is added to the list. Subclasses can override this to maintain their own indexes.
+     */
+    protected void onElementAdded(T element) {}
+
+    /**
+     * Called when {@code element} is removed from the list. Subclasses can override this to maintain their own indexes.
+     */
+    protected void onElementRemoved(T element) {}
+
     /**
      * Compares two elements and returns an integer indicating their order.
      *
@@ -81,7 +81,7 @@ class JsonAdaptedSession {
         if (!Subject.isValidSubject(subject)) {
             throw new IllegalValueException(Subject.MESSAGE_CONSTRAINTS);
         }
-        final Subject modelSubject = new Subject(subject);
+        final Subject modelSubject = Subject.of(subject);
 
 
         Session session = new Session(modelTimeslot, modelSubject);
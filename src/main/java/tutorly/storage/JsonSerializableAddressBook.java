@@ -14,6 +14,7 @@ import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
+import tutorly.model.uniquelist.exceptions.DuplicateElementException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -80,34 +81,45 @@ class JsonSerializableAddressBook {
             throw new IllegalValueException(MESSAGE_ILLEGAL_NEXT_SESSION_ID);
         }
 
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
             if (person.getId() >= nextPersonId) {
                 throw new IllegalValueException(MESSAGE_ILLEGAL_NEXT_PERSON_ID);
             }
-            addressBook.addPerson(person);
+            modelPersons.add(person);
+        }
+
+        try {
+            addressBook.addPersons(modelPersons);
+        } catch (DuplicateElementException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
 
+        List<Session> modelSessions = new ArrayList<>(sessions.size());
         for (JsonAdaptedSession jsonAdaptedSession : sessions) {
             Session session = jsonAdaptedSession.toModelType();
-            if (addressBook.hasSession(session)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SESSION);
-            }
             if (session.getId() >= nextSessionId) {
                 throw new IllegalValueException(MESSAGE_ILLEGAL_NEXT_SESSION_ID);
             }
-            addressBook.addSession(session);
+            modelSessions.add(session);
         }
 
+        try {
+            addressBook.addSessions(modelSessions);
+        } catch (DuplicateElementException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SESSION);
+        }
+
+        List<AttendanceRecord> modelAttendanceRecords = new ArrayList<>(attendanceRecords.size());
         for (JsonAdaptedAttendanceRecord jsonAdaptedAttendanceRecord : attendanceRecords) {
-            AttendanceRecord attendanceRecord = jsonAdaptedAttendanceRecord.toModelType();
-            if (addressBook.hasAttendanceRecord(attendanceRecord)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE_RECORD);
-            }
-            addressBook.addAttendanceRecord(attendanceRecord);
+            modelAttendanceRecords.add(jsonAdaptedAttendanceRecord.toModelType());
+        }
+
+        try {
+            addressBook.addAttendanceRecords(modelAttendanceRecords);
+        } catch (DuplicateElementException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE_RECORD);
         }
 
         return addressBook;
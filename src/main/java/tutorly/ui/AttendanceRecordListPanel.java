@@ -1,12 +1,17 @@
 package tutorly.ui;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.layout.Region;
 import javafx.util.Callback;
 import tutorly.commons.util.ObservableListUtil;
+import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
@@ -20,14 +25,12 @@ public class AttendanceRecordListPanel extends ListPanel<AttendanceRecord> {
     private final Callback<AttendanceRecord, ?> toggleCallback;
 
     /**
-     * Creates a {@code AttendanceRecordListPanel} with the given records, students, and selected sessions.
+     * Creates a {@code AttendanceRecordListPanel} with the records in the address book of the given students for the
+     * selected sessions.
      */
-    public AttendanceRecordListPanel(ObservableList<AttendanceRecord> records, ObservableList<Person> students,
+    public AttendanceRecordListPanel(ReadOnlyAddressBook addressBook, ObservableList<Person> students,
             ObservableList<Session> sessions, Callback<AttendanceRecord, ?> toggleCallback) {
-        super(ObservableListUtil.filteredList(records,
-                record -> sessions.stream().anyMatch(session -> session.getId() == record.getSessionId())
-                        && students.stream().anyMatch(student -> student.getId() == record.getStudentId()),
-                List.of(students, sessions)));
+        super(getRecords(addressBook, students, sessions));
 
         this.students = students;
         this.toggleCallback = toggleCallback;
@@ -43,4 +46,37 @@ public class AttendanceRecordListPanel extends ListPanel<AttendanceRecord> {
                 newAttendance -> toggleCallback.call(record));
     };
 
+    /**
+     * Returns the records of the given students for the given sessions, in the order of the records in the address
+     * book. When a student or session changes, only the records of that student or session are tested again.
+     */
+    private static ObservableList<AttendanceRecord> getRecords(ReadOnlyAddressBook addressBook,
+            ObservableList<Person> students, ObservableList<Session> sessions) {
+        // Registered before the filtered list's own listeners, so that the IDs are up to date when records are tested
+        Set<Integer> studentIds = new HashSet<>();
+        Set<Integer> sessionIds = new HashSet<>();
+        trackIds(students, Person::getId, studentIds);
+        trackIds(sessions, Session::getId, sessionIds);
+
+        return ObservableListUtil.filteredList(addressBook.getAttendanceRecordsList(),
+                record -> studentIds.contains(record.getStudentId()) && sessionIds.contains(record.getSessionId()),
+                List.of(ObservableListUtil.dependency(students,
+                                student -> addressBook.getStudentAttendanceRecords(student.getId())),
+                        ObservableListUtil.dependency(sessions,
+                                session -> addressBook.getSessionAttendanceRecords(session.getId()))));
+    }
+
+    /**
+     * Keeps {@code ids} equal to the IDs of the elements of {@code list}.
+     */
+    private static <T> void trackIds(ObservableList<T> list, ToIntFunction<T> idFunction, Set<Integer> ids) {
+        list.forEach(element -> ids.add(idFunction.applyAsInt(element)));
+        list.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(element -> ids.remove(idFunction.applyAsInt(element)));
+                change.getAddedSubList().forEach(element -> ids.add(idFunction.applyAsInt(element)));
+            }
+        });
+    }
+
 }
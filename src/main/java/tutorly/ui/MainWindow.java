@@ -135,7 +135,7 @@ public class MainWindow extends UiPart<Stage> {
         sessionListPanel = new SessionListPanel(logic.getFilteredSessionList());
         sessionListPanelPlaceholder.getChildren().add(sessionListPanel.getRoot());
 
-        attendanceRecordListPanel = new AttendanceRecordListPanel(logic.getAttendanceRecordList(),
+        attendanceRecordListPanel = new AttendanceRecordListPanel(logic.getAddressBook(),
                     logic.getPersonList(), sessionListPanel.getSelected(), this::toggleAttendanceRecord);
         attendanceRecordListPanelPlaceholder.getChildren().add(attendanceRecordListPanel.getRoot());
 
@@ -0,0 +1,54 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchableObservableListTest {
+
+    private final BatchableObservableList<Integer> list = new BatchableObservableList<>();
+    private final List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+
+    @Test
+    public void add_outsideBatch_notifiesForEachChange() {
+        list.addListener(changes::add);
+        list.add(1);
+        list.add(2);
+        assertEquals(List.of(1, 2), list);
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void add_insideBatch_notifiesOnceWhenBatchEnds() {
+        list.addListener(changes::add);
+        list.beginBatch();
+        list.add(1);
+        list.add(2);
+        list.remove(0);
+        assertEquals(0, changes.size());
+
+        list.endBatch();
+        assertEquals(List.of(2), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void add_insideNestedBatches_notifiesOnceWhenOutermostBatchEnds() {
+        list.addListener(changes::add);
+        list.beginBatch();
+        list.add(1);
+        list.beginBatch();
+        list.add(2);
+        list.endBatch();
+        assertEquals(0, changes.size());
+
+        list.endBatch();
+        assertEquals(List.of(1, 2), list);
+        assertEquals(1, changes.size());
+    }
+}
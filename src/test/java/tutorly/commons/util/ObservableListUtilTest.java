@@ -4,11 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 public class ObservableListUtilTest {
@@ -35,7 +37,7 @@ public class ObservableListUtilTest {
         Predicate<Integer> predicate = i -> matchingList.contains(i);
 
         ObservableList<Integer> filteredList = ObservableListUtil.filteredList(
-                sourceList, predicate, List.of(matchingList));
+                sourceList, predicate, List.of(ObservableListUtil.dependency(matchingList, i -> List.of(i))));
 
         assertTrue(filteredList instanceof ObservableList<?>);
         assertEquals(filteredList, sourceList.stream().filter(predicate).toList());
@@ -50,4 +52,108 @@ public class ObservableListUtilTest {
         assertEquals(filteredList, sourceList.stream().filter(predicate).toList());
     }
 
+    @Test
+    public void filteredList_sourceChanged_testsOnlyChangedElements() {
+        ObservableList<Integer> sourceList = ObservableListUtil.arrayList();
+        sourceList.setAll(1, 2, 3, 4, 5, 6);
+        List<Integer> tested = new ArrayList<>();
+        Predicate<Integer> isEven = i -> {
+            tested.add(i);
+            return i % 2 == 0;
+        };
+
+        ObservableList<Integer> filteredList = ObservableListUtil.filteredList(sourceList, isEven, List.of());
+        assertEquals(List.of(2, 4, 6), filteredList);
+        tested.clear();
+
+        // added in the middle
+        sourceList.add(3, 8);
+        assertEquals(List.of(2, 8, 4, 6), filteredList);
+        assertEquals(List.of(8), tested);
+        tested.clear();
+
+        // replaced
+        sourceList.set(0, 10);
+        assertEquals(List.of(10, 2, 8, 4, 6), filteredList);
+        sourceList.set(1, 7);
+        assertEquals(List.of(10, 8, 4, 6), filteredList);
+        assertEquals(List.of(10, 7), tested);
+        tested.clear();
+
+        // removed
+        sourceList.remove(Integer.valueOf(4));
+        assertEquals(List.of(10, 8, 6), filteredList);
+        assertEquals(List.of(), tested);
+        assertThrows(UnsupportedOperationException.class, () -> filteredList.remove(0));
+    }
+
+    @Test
+    public void filteredList_dependencyChanged_testsOnlyAffectedElements() {
+        ObservableList<Integer> sourceList = ObservableListUtil.arrayList();
+        sourceList.setAll(1, 2, 3, 4, 5, 6);
+        ObservableList<Integer> matchingList = ObservableListUtil.arrayList();
+        List<Integer> tested = new ArrayList<>();
+        Predicate<Integer> isMatching = i -> {
+            tested.add(i);
+            return matchingList.contains(i);
+        };
+
+        ObservableList<Integer> filteredList = ObservableListUtil.filteredList(sourceList, isMatching,
+                List.of(ObservableListUtil.dependency(matchingList, i -> List.of(i))));
+        assertEquals(List.of(), filteredList);
+        tested.clear();
+
+        matchingList.addAll(5, 2);
+        assertEquals(List.of(2, 5), filteredList);
+        assertEquals(List.of(2, 5), tested);
+        tested.clear();
+
+        matchingList.remove(Integer.valueOf(5));
+        assertEquals(List.of(2), filteredList);
+        assertEquals(List.of(5), tested);
+    }
+
+    @Test
+    public void filteredList_affectedElementStillPasses_replacesElement() {
+        ObservableList<Integer> sourceList = ObservableListUtil.arrayList();
+        sourceList.setAll(1, 2, 3);
+        ObservableList<Integer> dependencyList = ObservableListUtil.arrayList();
+
+        ObservableList<Integer> filteredList = ObservableListUtil.filteredList(sourceList, i -> true,
+                List.of(ObservableListUtil.dependency(dependencyList, i -> List.of(i))));
+        List<Integer> replaced = new ArrayList<>();
+        filteredList.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                replaced.addAll(change.getRemoved());
+            }
+        });
+
+        dependencyList.add(2);
+        assertEquals(List.of(1, 2, 3), filteredList);
+        assertEquals(List.of(2), replaced);
+    }
+
+    @Test
+    public void filteredList_duplicateAndPermutedElements_matchesSourceOrder() {
+        ObservableList<Integer> sourceList = ObservableListUtil.arrayList();
+        sourceList.setAll(3, 1, 2, 1);
+        ObservableList<Integer> matchingList = ObservableListUtil.arrayList();
+        matchingList.add(3);
+        Predicate<Integer> isMatching = i -> matchingList.contains(i);
+
+        ObservableList<Integer> filteredList = ObservableListUtil.filteredList(sourceList, isMatching,
+                List.of(ObservableListUtil.dependency(matchingList, i -> List.of(i))));
+        assertEquals(List.of(3), filteredList);
+
+        matchingList.add(1);
+        assertEquals(List.of(3, 1, 1), filteredList);
+
+        sourceList.sort(null);
+        assertEquals(List.of(1, 1, 3), filteredList);
+
+        sourceList.remove(0);
+        matchingList.add(2);
+        assertEquals(List.of(1, 2, 3), filteredList);
+    }
+
 }
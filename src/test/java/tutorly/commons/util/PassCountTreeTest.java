@@ -0,0 +1,110 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.commons.util.PassCountTree.Node;
+
+public class PassCountTreeTest {
+
+    private final PassCountTree<Integer> tree = new PassCountTree<>();
+
+    @Test
+    public void insertAll_elements_keptInOrder() {
+        tree.insertAll(0, List.of(1, 2, 3), i -> i % 2 == 1);
+        tree.insertAll(1, List.of(4, 5), i -> i % 2 == 1);
+
+        assertEquals(List.of(1, 4, 5, 2, 3), elements());
+        assertEquals(1, tree.countPassingBefore(1));
+        assertEquals(2, tree.countPassingBefore(tree.get(3)));
+        assertEquals(3, tree.countPassingBefore(5));
+    }
+
+    @Test
+    public void insertAll_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.insertAll(1, List.of(1), i -> true));
+    }
+
+    @Test
+    public void removeRange_elements_returnsRemovedNodesInOrder() {
+        tree.insertAll(0, List.of(1, 2, 3, 4, 5), i -> true);
+
+        List<Node<Integer>> removed = tree.removeRange(1, 4);
+        assertEquals(List.of(2, 3, 4), removed.stream().map(Node::getElement).toList());
+        assertEquals(List.of(1, 5), elements());
+        assertEquals(1, tree.countPassingBefore(tree.get(1)));
+    }
+
+    @Test
+    public void setPassing_node_updatesCounts() {
+        List<Node<Integer>> nodes = tree.insertAll(0, List.of(1, 2, 3), i -> false);
+
+        tree.setPassing(nodes.get(0), true);
+        tree.setPassing(nodes.get(1), true);
+        assertEquals(2, tree.countPassingBefore(nodes.get(2)));
+        tree.setPassing(nodes.get(0), false);
+        assertEquals(1, tree.countPassingBefore(nodes.get(2)));
+    }
+
+    @Test
+    public void reorder_permutation_reordersElements() {
+        tree.insertAll(0, List.of(1, 2, 3), i -> i != 2);
+        List<Node<Integer>> nodes = new ArrayList<>(tree.nodes());
+        Collections.reverse(nodes);
+
+        tree.reorder(nodes);
+        assertEquals(List.of(3, 2, 1), elements());
+        assertEquals(1, tree.indexOf(nodes.get(1)));
+        assertEquals(1, tree.countPassingBefore(nodes.get(2)));
+    }
+
+    @Test
+    public void randomOperations_sameAsList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        List<Boolean> expectedPasses = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                List<Integer> elements = List.of(random.nextInt(100), random.nextInt(100));
+                tree.insertAll(index, elements, i -> i % 3 == 0);
+                expected.addAll(index, elements);
+                expectedPasses.addAll(index, elements.stream().map(i -> i % 3 == 0).toList());
+            } else if (operation == 1) {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(Math.min(3, expected.size() - from) + 1);
+                tree.removeRange(from, to);
+                expected.subList(from, to).clear();
+                expectedPasses.subList(from, to).clear();
+            } else {
+                int index = random.nextInt(expected.size());
+                boolean isPassing = random.nextBoolean();
+                tree.setPassing(tree.get(index), isPassing);
+                expectedPasses.set(index, isPassing);
+            }
+
+            assertEquals(expected, elements());
+            int index = random.nextInt(expected.size() + 1);
+            int passingBefore = (int) expectedPasses.subList(0, index).stream().filter(isPassing -> isPassing).count();
+            assertEquals(passingBefore, tree.countPassingBefore(index));
+            if (index < expected.size()) {
+                Node<Integer> node = tree.get(index);
+                assertEquals(index, tree.indexOf(node));
+                assertEquals(passingBefore, tree.countPassingBefore(node));
+            }
+        }
+    }
+
+    private List<Integer> elements() {
+        return tree.nodes().stream().map(Node::getElement).toList();
+    }
+}
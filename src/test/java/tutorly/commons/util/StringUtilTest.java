@@ -1,10 +1,12 @@
 package tutorly.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -120,6 +122,51 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for anyTokenContains --------------------------------------
+
+    @Test
+    public void anyTokenContains_validInputs_correctResult() {
+        String[] searchTokens = StringUtil.toSearchTokens("  AAA bBb ccc  ");
+        assertTrue(StringUtil.anyTokenContains(searchTokens, "bb"));
+        assertTrue(StringUtil.anyTokenContains(searchTokens, "aaa"));
+        assertFalse(StringUtil.anyTokenContains(searchTokens, "bbbb"));
+        assertFalse(StringUtil.anyTokenContains(StringUtil.toSearchTokens("  "), "a"));
+    }
+
+    //---------------- Tests for anyTokenSimilar --------------------------------------
+
+    @Test
+    public void anyTokenSimilar_validInputs_correctResult() {
+        String[] searchTokens = StringUtil.toSearchTokens("John Doe");
+        assertTrue(StringUtil.anyTokenSimilar(searchTokens, "john")); // exact
+        assertTrue(StringUtil.anyTokenSimilar(searchTokens, "jonh")); // two substitutions
+        assertTrue(StringUtil.anyTokenSimilar(searchTokens, "dor")); // one substitution
+        assertFalse(StringUtil.anyTokenSimilar(searchTokens, "dxx")); // two substitutions in a short keyword
+        assertFalse(StringUtil.anyTokenSimilar(searchTokens, "do")); // too short to allow any edits
+        assertFalse(StringUtil.anyTokenSimilar(searchTokens, "jxxnh"));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("abc", ""));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(2, StringUtil.editDistance("john", "jonh"));
+        assertEquals(1, StringUtil.editDistance("john", "jon"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "a"));
+    }
+
+    //---------------- Tests for toSearchTokens --------------------------------------
+
+    @Test
+    public void toSearchTokens() {
+        assertEquals(List.of("aaa", "bbb"), List.of(StringUtil.toSearchTokens(" AAA \t bBb ")));
+        assertEquals(List.of(), List.of(StringUtil.toSearchTokens("")));
+        assertThrows(NullPointerException.class, () -> StringUtil.toSearchTokens(null));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,8 @@ import javafx.collections.ObservableList;
 import tutorly.commons.core.GuiSettings;
 import tutorly.logic.Messages;
 import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.AddressBookChange;
+import tutorly.model.AddressBookSnapshot;
 import tutorly.model.Model;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.ReadOnlyUserPrefs;
@@ -25,6 +29,7 @@ import tutorly.model.person.Name;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
 import tutorly.model.session.UniqueSessionList;
+import tutorly.testutil.AttendanceRecordBuilder;
 import tutorly.testutil.SessionBuilder;
 
 /**
@@ -48,6 +53,16 @@ public class AddSessionCommandTest {
         CommandResult result = addSessionCommand.execute(model);
         assertEquals(String.format(AddSessionCommand.MESSAGE_SUCCESS, Messages.format(session)),
                 result.getFeedbackToUser());
+        assertEquals(0, model.batches);
+    }
+
+    @Test
+    void execute_sessionWithAttendanceRecords_addedInSingleBatch() throws CommandException {
+        AttendanceRecord record = new AttendanceRecordBuilder().withStudentId(1).withSessionId(session.getId())
+                .build();
+        new AddSessionCommand(session, List.of(record)).execute(model);
+        assertTrue(model.hasSession(session));
+        assertEquals(1, model.batches);
     }
 
     @Test
@@ -84,7 +99,7 @@ public class AddSessionCommandTest {
 
     @Test
     void toStringTest() {
-        String expected = "AddSessionCommand{toCreate=" + session + "}";
+        String expected = "AddSessionCommand{toCreate=" + session + ", attendanceRecords=[]}";
         assertTrue(addSessionCommand.toString().contains(expected));
     }
 
@@ -93,6 +108,7 @@ public class AddSessionCommandTest {
      */
     private static class ModelStub implements Model {
         private final UniqueSessionList sessions = new UniqueSessionList();
+        private int batches = 0;
 
         @Override
         public ReadOnlyUserPrefs getUserPrefs() {
@@ -135,6 +151,27 @@ public class AddSessionCommandTest {
             return false;
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<List<AddressBookChange<?>>> getAddressBookChangesSince(long version) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batch(Runnable action) {
+            batches++;
+            action.run();
+        }
+
         @Override
         public void deletePerson(Person target) {
         }
@@ -191,6 +228,11 @@ public class AddSessionCommandTest {
         public void updateFilteredPersonList(Filter<Person> predicate) {
         }
 
+        @Override
+        public void updateFilteredPersonList(Filter<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredSessionList(Filter<Session> predicate) {
         }
@@ -205,6 +247,11 @@ public class AddSessionCommandTest {
             return sessions.hasOverlappingSession(session);
         }
 
+        @Override
+        public List<Session> getOverlappingSessions(Session toCheck) {
+            return sessions.getOverlappingSessions(toCheck);
+        }
+
         @Override
         public void addSession(Session session) {
             sessions.add(session);
@@ -241,6 +288,11 @@ public class AddSessionCommandTest {
         public void removeAttendanceRecord(AttendanceRecord record) {
         }
 
+        @Override
+        public List<AttendanceRecord> removeOrphanedAttendanceRecords() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAttendanceRecord(AttendanceRecord target, AttendanceRecord editedRecord) {
         }
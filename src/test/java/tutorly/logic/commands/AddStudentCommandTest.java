@@ -8,6 +8,7 @@ import static tutorly.testutil.TypicalAddressBook.ALICE;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,8 @@ import tutorly.commons.core.GuiSettings;
 import tutorly.logic.Messages;
 import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.model.AddressBook;
+import tutorly.model.AddressBookChange;
+import tutorly.model.AddressBookSnapshot;
 import tutorly.model.Model;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.ReadOnlyUserPrefs;
@@ -27,6 +30,7 @@ import tutorly.model.person.Identity;
 import tutorly.model.person.Name;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
+import tutorly.testutil.AttendanceRecordBuilder;
 import tutorly.testutil.PersonBuilder;
 
 public class AddStudentCommandTest {
@@ -48,6 +52,18 @@ public class AddStudentCommandTest {
         assertEquals(List.of(validPerson), modelStub.personsAdded);
     }
 
+    @Test
+    public void execute_personWithAttendanceRecords_addedInSingleBatch() throws Exception {
+        ModelStubAcceptingPersonAdded modelStub = new ModelStubAcceptingPersonAdded();
+        Person validPerson = new PersonBuilder().withId(1).build();
+        AttendanceRecord record = new AttendanceRecordBuilder().withStudentId(1).withSessionId(1).build();
+
+        new AddStudentCommand(validPerson, List.of(record)).execute(modelStub);
+        assertEquals(List.of(validPerson), modelStub.personsAdded);
+        assertEquals(List.of(record), modelStub.attendanceRecordsAdded);
+        assertEquals(1, modelStub.batches);
+    }
+
     @Test
     public void execute_duplicatePerson_throwsCommandException() {
         Person validPerson = new PersonBuilder().build();
@@ -85,7 +101,8 @@ public class AddStudentCommandTest {
     @Test
     public void toStringMethod() {
         AddStudentCommand addCommand = new AddStudentCommand(ALICE);
-        String expected = AddStudentCommand.class.getCanonicalName() + "{toAdd=" + ALICE + "}";
+        String expected = AddStudentCommand.class.getCanonicalName() + "{toAdd=" + ALICE
+                + ", attendanceRecords=[]}";
         assertEquals(expected, addCommand.toString());
     }
 
@@ -138,6 +155,26 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<List<AddressBookChange<?>>> getAddressBookChangesSince(long version) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batch(Runnable action) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -198,6 +235,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Filter<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredSessionList(Filter<Session> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -213,6 +255,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Session> getOverlappingSessions(Session toCheck) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addSession(Session toCreate) {
             throw new AssertionError("This method should not be called.");
@@ -253,6 +300,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<AttendanceRecord> removeOrphanedAttendanceRecords() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAttendanceRecord(AttendanceRecord target, AttendanceRecord editedRecord) {
             throw new AssertionError("This method should not be called.");
@@ -282,6 +334,8 @@ public class AddStudentCommandTest {
      */
     private class ModelStubAcceptingPersonAdded extends ModelStub {
         final ArrayList<Person> personsAdded = new ArrayList<>();
+        final ArrayList<AttendanceRecord> attendanceRecordsAdded = new ArrayList<>();
+        int batches = 0;
 
         @Override
         public boolean hasPerson(Person person) {
@@ -298,6 +352,18 @@ public class AddStudentCommandTest {
             personsAdded.add(person);
         }
 
+        @Override
+        public void addAttendanceRecord(AttendanceRecord record) {
+            requireNonNull(record);
+            attendanceRecordsAdded.add(record);
+        }
+
+        @Override
+        public void batch(Runnable action) {
+            batches++;
+            action.run();
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
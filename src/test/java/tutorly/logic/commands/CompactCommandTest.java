@@ -0,0 +1,54 @@
+package tutorly.logic.commands;
+
+import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.testutil.AttendanceRecordBuilder;
+
+public class CompactCommandTest {
+
+    private static final AttendanceRecord ORPHANED_RECORD = new AttendanceRecordBuilder(ALICE_ATTEND_MATH)
+            .withStudentId(Integer.MAX_VALUE).build();
+
+    @Test
+    public void execute_noOrphanedRecords_success() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new CompactCommand(), model,
+                String.format(CompactCommand.MESSAGE_COMPACT_SUCCESS, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_orphanedRecords_success() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addAttendanceRecord(ORPHANED_RECORD);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new CompactCommand(), model,
+                String.format(CompactCommand.MESSAGE_COMPACT_SUCCESS, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_restoreOrphanedRecords_success() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addAttendanceRecord(ORPHANED_RECORD);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        assertCommandSuccess(new CompactCommand(List.of(ORPHANED_RECORD)), model,
+                String.format(CompactCommand.MESSAGE_RESTORE_SUCCESS, 1), expectedModel);
+    }
+
+}
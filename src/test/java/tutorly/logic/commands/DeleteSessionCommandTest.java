@@ -6,6 +6,8 @@ import static tutorly.logic.commands.CommandTestUtil.assertCommandFailure;
 import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import tutorly.logic.Messages;
@@ -36,6 +38,17 @@ public class DeleteSessionCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_sessionWithAttendanceRecords_reverseCommandRestoresAttendanceRecords() throws Exception {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        CommandResult result = new DeleteSessionCommand(2).execute(model);
+        assertEquals(List.of(), model.getAddressBook().getSessionAttendanceRecords(2));
+
+        result.getReverseCommand().execute(model);
+        assertEquals(expectedModel, model);
+    }
+
     @Test
     public void execute_invalidSessionId_throwsCommandException() {
         int invalidSessionId = model.getFilteredSessionList().size() + 1;
@@ -8,6 +8,8 @@ import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static tutorly.testutil.TypicalIdentities.IDENTITY_FIRST_PERSON;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import tutorly.logic.Messages;
@@ -39,6 +41,18 @@ public class DeleteStudentCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_personWithAttendanceRecords_reverseCommandRestoresAttendanceRecords() throws Exception {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        int personId = model.getPersonByIdentity(IDENTITY_FIRST_PERSON).get().getId();
+
+        CommandResult result = new DeleteStudentCommand(IDENTITY_FIRST_PERSON).execute(model);
+        assertEquals(List.of(), model.getAddressBook().getStudentAttendanceRecords(personId));
+
+        result.getReverseCommand().execute(model);
+        assertEquals(expectedModel, model);
+    }
+
     @Test
     public void execute_invalidIdentity_throwsCommandException() {
         Identity identity = new Identity(model.getFilteredPersonList().size() + 1);
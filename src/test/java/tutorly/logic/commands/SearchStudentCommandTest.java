@@ -17,6 +17,7 @@ import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,8 @@ import tutorly.model.filter.AnyFilter;
 import tutorly.model.filter.AttendSessionFilter;
 import tutorly.model.filter.Filter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.filter.NameSimilarToKeywordsFilter;
+import tutorly.model.filter.PersonRanker;
 import tutorly.model.filter.PhoneContainsKeywordsFilter;
 import tutorly.model.person.Person;
 
@@ -66,6 +69,12 @@ public class SearchStudentCommandTest {
         Filter<Person> thirdFilter = new PhoneContainsKeywordsFilter(Collections.singletonList("first"));
         SearchStudentCommand searchThirdCommand = new SearchStudentCommand(thirdFilter);
         assertFalse(searchFirstCommand.equals(searchThirdCommand));
+
+        // different ranker -> returns false
+        PersonRanker ranker = new PersonRanker(List.of("first"), List.of(), List.of(), 5);
+        SearchStudentCommand rankedFirstCommand = new SearchStudentCommand(firstFilter, ranker);
+        assertFalse(searchFirstCommand.equals(rankedFirstCommand));
+        assertTrue(rankedFirstCommand.equals(new SearchStudentCommand(firstFilter, ranker)));
     }
 
     @Test
@@ -94,6 +103,48 @@ public class SearchStudentCommandTest {
         assertEquals(expectedResult, model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_ranked_bestPersonsFoundInOrder() {
+        List<Person> expectedResult = Arrays.asList(CARL, BENSON);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedResult.size());
+
+        // Carl Kurz matches a whole word and the start of a word, the others only part of a word
+        NameContainsKeywordsFilter nameFilter = prepareNameFilter("carl kur ei");
+        PersonRanker ranker = new PersonRanker(List.of("carl", "kur", "ei"), List.of(), List.of(), 2);
+        SearchStudentCommand command = new SearchStudentCommand(Filter.any(List.of(nameFilter)), ranker);
+
+        expectedModel.updateFilteredPersonList(ab -> expectedResult::contains,
+                Comparator.comparingInt(expectedResult::indexOf));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedResult, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_rankedFuzzy_fuzzyMatchesRankedBelowSubstringMatches() {
+        List<Person> expectedResult = Arrays.asList(ELLE, ALICE, BENSON);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedResult.size());
+
+        // Elle Meyer matches a whole word, Alice Pauline part of a word, and the Meiers only with a spelling mistake
+        Filter<Person> filter = Filter.any(List.of(prepareNameFilter("ul"),
+                new NameSimilarToKeywordsFilter(List.of("meyer"))));
+        PersonRanker ranker = new PersonRanker(List.of("ul"), List.of("meyer"), List.of(), 3);
+        SearchStudentCommand command = new SearchStudentCommand(filter, ranker);
+
+        expectedModel.updateFilteredPersonList(ab -> expectedResult::contains,
+                Comparator.comparingInt(expectedResult::indexOf));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedResult, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_rankedThenUnranked_addressBookOrderRestored() {
+        PersonRanker ranker = new PersonRanker(List.of("carl", "kur", "ei"), List.of(), List.of(), 2);
+        new SearchStudentCommand(Filter.any(List.of(prepareNameFilter("carl kur ei"))), ranker).execute(model);
+
+        new SearchStudentCommand(Filter.any(List.of())).execute(model);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         AttendSessionFilter sessionFilter = new AttendSessionFilter(1);
@@ -106,7 +157,7 @@ public class SearchStudentCommandTest {
 
         String expected = SearchStudentCommand.class.getCanonicalName()
                 + "{filter=" + AnyFilter.class.getCanonicalName()
-                + "{filters=[" + sessionFilter + ", " + nameFilter + ", " + phoneFilter + "]}}";
+                + "{filters=[" + sessionFilter + ", " + nameFilter + ", " + phoneFilter + "]}, ranker=null}";
         assertEquals(expected, searchCommand.toString());
     }
 
@@ -27,6 +27,7 @@ import tutorly.logic.commands.AttendanceFeedbackCommand;
 import tutorly.logic.commands.AttendanceMarkSessionCommand;
 import tutorly.logic.commands.AttendanceUnmarkSessionCommand;
 import tutorly.logic.commands.ClearCommand;
+import tutorly.logic.commands.CompactCommand;
 import tutorly.logic.commands.DeleteSessionCommand;
 import tutorly.logic.commands.DeleteStudentCommand;
 import tutorly.logic.commands.EditSessionCommand;
@@ -78,6 +79,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parse(ClearCommand.COMMAND_STRING + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_compact() throws Exception {
+        assertTrue(parser.parse(CompactCommand.COMMAND_STRING) instanceof CompactCommand);
+        assertTrue(parser.parse(CompactCommand.COMMAND_STRING + " 3") instanceof CompactCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parse(ExitCommand.COMMAND_STRING) instanceof ExitCommand);
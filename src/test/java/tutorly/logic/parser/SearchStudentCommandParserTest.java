@@ -3,9 +3,11 @@ package tutorly.logic.parser;
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorly.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static tutorly.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static tutorly.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TOP;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -17,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import tutorly.logic.commands.SearchStudentCommand;
 import tutorly.model.filter.Filter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.filter.NameSimilarToKeywordsFilter;
+import tutorly.model.filter.PersonRanker;
 import tutorly.model.filter.PhoneContainsKeywordsFilter;
 import tutorly.model.person.Person;
 
@@ -62,4 +66,37 @@ public class SearchStudentCommandParserTest {
                 expectedSearchCommand);
     }
 
+    @Test
+    public void parse_fuzzyNameKeywords_returnsSearchCommand() {
+        Filter<Person> filters = Filter.any(Arrays.asList(
+                new NameContainsKeywordsFilter(Arrays.asList("Alice")),
+                new NameSimilarToKeywordsFilter(Arrays.asList("Jonh", "Yoeh"))));
+        SearchStudentCommand expectedSearchCommand = new SearchStudentCommand(filters);
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_NAME + "Alice " + PREFIX_FUZZY_NAME + " Jonh \t Yoeh ",
+                expectedSearchCommand);
+    }
+
+    @Test
+    public void parse_top_returnsRankedSearchCommand() {
+        Filter<Person> filters = Filter.any(Arrays.asList(
+                new NameContainsKeywordsFilter(Arrays.asList("Alice")),
+                new NameSimilarToKeywordsFilter(Arrays.asList("Jonh")),
+                new PhoneContainsKeywordsFilter(Arrays.asList("913"))));
+        PersonRanker ranker = new PersonRanker(List.of("Alice"), List.of("Jonh"), List.of("913"), 5);
+        SearchStudentCommand expectedSearchCommand = new SearchStudentCommand(filters, ranker);
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_NAME + "Alice " + PREFIX_FUZZY_NAME + "Jonh " + PREFIX_PHONE + "913 " + PREFIX_TOP + " 5 ",
+                expectedSearchCommand);
+    }
+
+    @Test
+    public void parse_invalidTop_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_NAME + "Alice " + PREFIX_TOP + "0", PersonRanker.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_NAME + "Alice " + PREFIX_TOP + "five",
+                PersonRanker.MESSAGE_CONSTRAINTS);
+    }
+
 }
@@ -0,0 +1,91 @@
+package tutorly.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+
+public class AddressBookSnapshotTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookSnapshot.of(null));
+    }
+
+    @Test
+    public void of_addressBook_copiesContents() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertEquals(addressBook.getSessionList(), snapshot.getSessionList());
+        assertEquals(addressBook.getAttendanceRecordsList(), snapshot.getAttendanceRecordsList());
+        assertEquals(addressBook.getNextPersonId(), snapshot.getNextPersonId());
+        assertEquals(addressBook.getNextSessionId(), snapshot.getNextSessionId());
+        assertEquals(addressBook, new AddressBook(snapshot));
+    }
+
+    @Test
+    public void of_addressBookModifiedAfterwards_snapshotUnchanged() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(expectedAddressBook, new AddressBook(snapshot));
+    }
+
+    @Test
+    public void of_snapshot_returnsSameSnapshot() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        assertSame(snapshot, AddressBookSnapshot.of(snapshot));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void lookups_sameAsAddressBook() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        assertEquals(addressBook.getSessionAttendanceRecords(MATH_SESSION.getId()),
+                snapshot.getSessionAttendanceRecords(MATH_SESSION.getId()));
+        assertEquals(addressBook.getStudentAttendanceRecords(ALICE.getId()),
+                snapshot.getStudentAttendanceRecords(ALICE.getId()));
+        assertEquals(addressBook.findAttendanceRecord(ALICE.getId(), MATH_SESSION.getId()),
+                snapshot.findAttendanceRecord(ALICE.getId(), MATH_SESSION.getId()));
+        assertEquals(addressBook.getSessionIdsOn(MATH_SESSION.getTimeslot().getStartTime().toLocalDate()),
+                snapshot.getSessionIdsOn(MATH_SESSION.getTimeslot().getStartTime().toLocalDate()));
+    }
+
+    @Test
+    public void attendanceLookups_everyStudentAndSession_sameAsAddressBook() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(addressBook.getStudentAttendanceRecords(person.getId()),
+                    snapshot.getStudentAttendanceRecords(person.getId()));
+            for (Session session : addressBook.getSessionList()) {
+                assertEquals(addressBook.findAttendanceRecord(person.getId(), session.getId()),
+                        snapshot.findAttendanceRecord(person.getId(), session.getId()));
+            }
+        }
+        for (Session session : addressBook.getSessionList()) {
+            assertEquals(addressBook.getSessionAttendanceRecords(session.getId()),
+                    snapshot.getSessionAttendanceRecords(session.getId()));
+        }
+        assertEquals(List.of(), snapshot.getSessionAttendanceRecords(Integer.MAX_VALUE));
+        assertEquals(List.of(), snapshot.getStudentAttendanceRecords(Integer.MAX_VALUE));
+        assertEquals(Optional.empty(), snapshot.findAttendanceRecord(Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+}
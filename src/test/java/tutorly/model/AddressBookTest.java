@@ -7,23 +7,35 @@ import static tutorly.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static tutorly.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_ENGLISH;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.BENSON_ATTEND_MATH;
 import static tutorly.testutil.TypicalAddressBook.BOB;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import tutorly.commons.util.ObservableListUtil;
+import tutorly.commons.util.StringUtil;
+import tutorly.model.AddressBookChange.Entity;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.attendancerecord.Feedback;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
 import tutorly.model.uniquelist.exceptions.DuplicateElementException;
+import tutorly.testutil.AttendanceRecordBuilder;
 import tutorly.testutil.PersonBuilder;
 import tutorly.testutil.SessionBuilder;
 
@@ -69,6 +81,61 @@ public class AddressBookTest {
         assertThrows(DuplicateElementException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void batch_multipleChanges_notifiesListenersOnce() {
+        int[] changeCount = new int[1];
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        addressBook.batch(() -> {
+            addressBook.addPerson(ALICE);
+            addressBook.addPerson(BOB);
+            addressBook.removePerson(ALICE);
+        });
+        assertEquals(List.of(BOB), addressBook.getPersonList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void batch_exceptionThrown_rollsBackChanges() {
+        addressBook.addPerson(ALICE);
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+
+        assertThrows(DuplicateElementException.class, () -> addressBook.batch(() -> {
+            addressBook.addPerson(BOB);
+            addressBook.addPerson(ALICE);
+        }));
+        assertEquals(expectedAddressBook, addressBook);
+    }
+
+    @Test
+    public void batch_exceptionAfterChangesToEveryList_rollsBackChanges() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBook expectedAddressBook = new AddressBook(typicalAddressBook);
+
+        assertThrows(DuplicateElementException.class, () -> typicalAddressBook.batch(() -> {
+            typicalAddressBook.addPerson(new PersonBuilder(BOB).withId(0).build());
+            typicalAddressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+            typicalAddressBook.removeSession(MATH_SESSION);
+            typicalAddressBook.addSession(new SessionBuilder().withId(0).build());
+            typicalAddressBook.addPerson(ALICE);
+        }));
+        assertEquals(expectedAddressBook, typicalAddressBook);
+        assertEquals(expectedAddressBook.getNextPersonId(), typicalAddressBook.getNextPersonId());
+        assertEquals(expectedAddressBook.getNextSessionId(), typicalAddressBook.getNextSessionId());
+    }
+
+    @Test
+    public void batch_nestedBatchFails_rollsBackOnlyNestedChanges() {
+        addressBook.batch(() -> {
+            addressBook.addPerson(ALICE);
+            assertThrows(DuplicateElementException.class, () -> addressBook.batch(() -> {
+                addressBook.addPerson(BOB);
+                addressBook.addPerson(ALICE);
+            }));
+        });
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+    }
+
     @Test
     public void addPerson_limitReached_throwsInvalidStateException() {
         addressBook.addPerson(new PersonBuilder(ALICE).withId(Integer.MAX_VALUE - 1).build());
@@ -76,6 +143,46 @@ public class AddressBookTest {
         assertThrows(IllegalStateException.class, () -> addressBook.addPerson(person));
     }
 
+    @Test
+    public void addPersons_personsOutOfOrder_addsPersonsSortedById() {
+        Person alice = new PersonBuilder(ALICE).withId(2).build();
+        Person bob = new PersonBuilder(BOB).withId(1).build();
+        addressBook.addPersons(List.of(alice, bob));
+        assertEquals(List.of(bob, alice), addressBook.getPersonList());
+        assertEquals(3, addressBook.getNextPersonId());
+    }
+
+    @Test
+    public void addPersons_duplicatePersons_throwsDuplicateElementException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicateElementException.class, () -> addressBook.addPersons(List.of(ALICE, editedAlice)));
+    }
+
+    @Test
+    public void addPersons_personAlreadyInAddressBook_throwsDuplicateElementException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(DuplicateElementException.class, () -> addressBook.addPersons(List.of(BOB, ALICE)));
+    }
+
+    @Test
+    public void addPersons_duplicatePersons_noIdsAssigned() {
+        addressBook.addPerson(ALICE);
+        int nextPersonId = addressBook.getNextPersonId();
+        Person bob = new PersonBuilder(BOB).withId(0).build();
+        assertThrows(DuplicateElementException.class, () -> addressBook.addPersons(List.of(bob, ALICE)));
+        assertEquals(0, bob.getId());
+        assertEquals(nextPersonId, addressBook.getNextPersonId());
+    }
+
+    @Test
+    public void addPersons_mixedIds_assignedIdsAboveGivenIds() {
+        Person alice = new PersonBuilder(ALICE).withId(0).build();
+        Person bob = new PersonBuilder(BOB).withId(1).build();
+        addressBook.addPersons(List.of(alice, bob));
+        assertEquals(2, alice.getId());
+        assertEquals(List.of(bob, alice), addressBook.getPersonList());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -115,6 +222,17 @@ public class AddressBookTest {
         assertThrows(IllegalStateException.class, () -> addressBook.addSession(session));
     }
 
+    @Test
+    public void addSessions_duplicateSessions_noIdsAssigned() {
+        addressBook.addSession(new SessionBuilder().withId(1).build());
+        Session newSession = new SessionBuilder().withId(0).build();
+        Session duplicateSession = new SessionBuilder().withId(1).withSubject("Art").build();
+        assertThrows(DuplicateElementException.class, () ->
+                addressBook.addSessions(List.of(newSession, duplicateSession)));
+        assertEquals(0, newSession.getId());
+        assertEquals(2, addressBook.getNextSessionId());
+    }
+
     @Test
     public void hasSession_nullSession_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasSession(null));
@@ -141,6 +259,74 @@ public class AddressBookTest {
         assertFalse(addressBook.hasSession(session));
     }
 
+    @Test
+    public void removePerson_personWithAttendanceRecords_removesAttendanceRecords() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.removePerson(ALICE);
+        assertFalse(typicalAddressBook.hasAttendanceRecord(ALICE_ATTEND_MATH));
+        assertFalse(typicalAddressBook.hasAttendanceRecord(ALICE_ATTEND_ENGLISH));
+        assertTrue(typicalAddressBook.hasAttendanceRecord(BENSON_ATTEND_MATH));
+    }
+
+    @Test
+    public void removeSession_sessionWithAttendanceRecords_removesAttendanceRecords() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.removeSession(MATH_SESSION);
+        assertEquals(List.of(), typicalAddressBook.getSessionAttendanceRecords(MATH_SESSION.getId()));
+        assertTrue(typicalAddressBook.hasAttendanceRecord(ALICE_ATTEND_ENGLISH));
+    }
+
+    @Test
+    public void removeOrphanedAttendanceRecords_orphanedRecords_removesOrphanedRecords() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AttendanceRecord unknownStudentRecord = new AttendanceRecordBuilder(ALICE_ATTEND_MATH)
+                .withStudentId(Integer.MAX_VALUE).build();
+        AttendanceRecord unknownSessionRecord = new AttendanceRecordBuilder(ALICE_ATTEND_MATH)
+                .withSessionId(Integer.MAX_VALUE).build();
+        typicalAddressBook.addAttendanceRecord(unknownStudentRecord);
+        typicalAddressBook.addAttendanceRecord(unknownSessionRecord);
+
+        assertEquals(Set.of(unknownStudentRecord, unknownSessionRecord),
+                Set.copyOf(typicalAddressBook.removeOrphanedAttendanceRecords()));
+        assertEquals(getTypicalAddressBook(), typicalAddressBook);
+        assertEquals(List.of(), typicalAddressBook.removeOrphanedAttendanceRecords());
+    }
+
+    @Test
+    public void getChangesSince_personChanges_returnsChangesInOrder() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.addPerson(ALICE);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(editedAlice);
+
+        assertEquals(3, addressBook.getVersion());
+        assertEquals(Optional.of(List.of(
+                new AddressBookChange<>(1, Entity.PERSON, null, ALICE),
+                new AddressBookChange<>(2, Entity.PERSON, ALICE, editedAlice),
+                new AddressBookChange<>(3, Entity.PERSON, editedAlice, null))),
+                addressBook.getChangesSince(0));
+    }
+
+    @Test
+    public void getChangesSince_cascadingRemove_includesAttendanceRecords() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        long version = typicalAddressBook.getVersion();
+        typicalAddressBook.removeSession(MATH_SESSION);
+
+        List<AddressBookChange<?>> changes = typicalAddressBook.getChangesSince(version).get();
+        assertEquals(typicalAddressBook.getVersion(), version + changes.size());
+        assertTrue(changes.contains(new AddressBookChange<>(version + changes.size(), Entity.SESSION,
+                MATH_SESSION, null)));
+        assertTrue(changes.stream().anyMatch(change -> change.getEntity() == Entity.ATTENDANCE_RECORD
+                && change.getBefore().equals(Optional.of(ALICE_ATTEND_MATH))
+                && change.getOperation() == AddressBookChange.Operation.REMOVE));
+    }
+
+    @Test
+    public void constructor_copy_startsAtVersionZero() {
+        assertEquals(0, new AddressBook(getTypicalAddressBook()).getVersion());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook
@@ -218,6 +404,58 @@ public class AddressBookTest {
             return attendanceRecords;
         }
 
+        @Override
+        public Set<Integer> getSessionIdsOn(LocalDate date) {
+            return sessions.stream().filter(session -> session.containsDate(date)).map(Session::getId)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public Set<Integer> getPersonIdsWithNameContaining(String keyword) {
+            return persons.stream()
+                    .filter(person -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword))
+                    .map(Person::getId).collect(Collectors.toSet());
+        }
+
+        @Override
+        public Set<Integer> getPersonIdsWithNameSimilarTo(String keyword) {
+            return persons.stream()
+                    .filter(person -> StringUtil.anyTokenSimilar(person.getName().getSearchTokens(),
+                            keyword.toLowerCase()))
+                    .map(Person::getId).collect(Collectors.toSet());
+        }
+
+        @Override
+        public Set<Integer> getPersonIdsWithPhoneContaining(String keyword) {
+            return persons.stream()
+                    .filter(person -> StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword))
+                    .map(Person::getId).collect(Collectors.toSet());
+        }
+
+        @Override
+        public Set<Integer> getSessionIdsWithSubjectContaining(String keyword) {
+            return sessions.stream()
+                    .filter(session -> StringUtil.containsWordIgnoreCase(session.getSubject().subjectName, keyword))
+                    .map(Session::getId).collect(Collectors.toSet());
+        }
+
+        @Override
+        public Optional<AttendanceRecord> findAttendanceRecord(int studentId, int sessionId) {
+            return attendanceRecords.stream()
+                    .filter(record -> record.getStudentId() == studentId && record.getSessionId() == sessionId)
+                    .findFirst();
+        }
+
+        @Override
+        public List<AttendanceRecord> getSessionAttendanceRecords(int sessionId) {
+            return attendanceRecords.filtered(record -> record.getSessionId() == sessionId);
+        }
+
+        @Override
+        public List<AttendanceRecord> getStudentAttendanceRecords(int studentId) {
+            return attendanceRecords.filtered(record -> record.getStudentId() == studentId);
+        }
+
         @Override
         public int getNextPersonId() {
             return this.persons.size() + 1;
@@ -0,0 +1,51 @@
+package tutorly.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBookChange.Entity;
+
+public class ChangeJournalTest {
+
+    private final ChangeJournal journal = new ChangeJournal(2);
+
+    @Test
+    public void getVersion_noChanges_returnsZero() {
+        assertEquals(0, journal.getVersion());
+        assertEquals(Optional.of(List.of()), journal.getChangesSince(0));
+    }
+
+    @Test
+    public void record_changes_advancesVersion() {
+        journal.record(Entity.PERSON, null, "a");
+        journal.record(Entity.PERSON, "a", "b");
+        assertEquals(2, journal.getVersion());
+        assertEquals(Optional.of(List.of(new AddressBookChange<>(2, Entity.PERSON, "a", "b"))),
+                journal.getChangesSince(1));
+        assertEquals(Optional.of(List.of()), journal.getChangesSince(2));
+    }
+
+    @Test
+    public void getChangesSince_changesNoLongerKept_returnsEmptyOptional() {
+        journal.record(Entity.PERSON, null, "a");
+        journal.record(Entity.PERSON, "a", "b");
+        journal.record(Entity.PERSON, "b", null);
+        assertEquals(Optional.empty(), journal.getChangesSince(0));
+        assertEquals(Optional.of(List.of(
+                new AddressBookChange<>(2, Entity.PERSON, "a", "b"),
+                new AddressBookChange<>(3, Entity.PERSON, "b", null))),
+                journal.getChangesSince(1));
+    }
+
+    @Test
+    public void clear_changes_restartsVersions() {
+        journal.record(Entity.PERSON, null, "a");
+        journal.clear();
+        assertEquals(0, journal.getVersion());
+        assertEquals(Optional.of(List.of()), journal.getChangesSince(0));
+    }
+}
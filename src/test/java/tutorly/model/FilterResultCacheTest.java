@@ -0,0 +1,208 @@
+package tutorly.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.GEORGE;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.filter.AttendSessionFilter;
+import tutorly.model.filter.Filter;
+import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+import tutorly.testutil.AttendanceRecordBuilder;
+import tutorly.testutil.PersonBuilder;
+import tutorly.testutil.SessionBuilder;
+
+public class FilterResultCacheTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final FilterResultCache<Person> cache = FilterResultCache.forPersons(2);
+
+    @Test
+    public void getMatchingIds_notCached_matchesFilter() {
+        assertEquals(idsOf(ALICE), cache.getMatchingIds(nameFilter("alice"), addressBook));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void getMatchingIds_unchangedAddressBook_notRecomputed() {
+        CountingFilter filter = new CountingFilter(person -> person.getName().fullName.contains("Meier"));
+        Set<Integer> ids = cache.getMatchingIds(filter, addressBook);
+        int tests = filter.tests;
+
+        assertEquals(ids, cache.getMatchingIds(filter, addressBook));
+        assertEquals(tests, filter.tests);
+    }
+
+    @Test
+    public void getMatchingIds_personsChanged_onlyChangedPersonsTested() {
+        CountingFilter filter = new CountingFilter(person -> person.getName().fullName.contains("Meier"));
+        cache.getMatchingIds(filter, addressBook);
+        filter.tests = 0;
+
+        Person newMeier = new PersonBuilder().withId(0).withName("Zed Meier").build();
+        addressBook.addPerson(newMeier);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Meier").build());
+        addressBook.setPerson(DANIEL, new PersonBuilder(DANIEL).withName("Daniel Tan").build());
+        addressBook.removePerson(BENSON);
+
+        assertEquals(idsOf(ALICE, newMeier), cache.getMatchingIds(filter, addressBook));
+        assertEquals(3, filter.tests);
+    }
+
+    @Test
+    public void getMatchingIds_attendanceRecordsChanged_patched() {
+        Filter<Person> filter = new AttendSessionFilter(MATH_SESSION.getId());
+        cache.getMatchingIds(filter, addressBook);
+
+        addressBook.addAttendanceRecord(new AttendanceRecordBuilder()
+                .withPerson(GEORGE).withSession(MATH_SESSION).build());
+        assertEquals(idsOf(ALICE, BENSON, DANIEL, ELLE, GEORGE), cache.getMatchingIds(filter, addressBook));
+    }
+
+    @Test
+    public void getMatchingIds_sessionsChanged_recomputed() {
+        CountingFilter filter = new CountingFilter(person -> true);
+        cache.getMatchingIds(filter, addressBook);
+        filter.tests = 0;
+
+        addressBook.setSession(ENGLISH_SESSION, new SessionBuilder(ENGLISH_SESSION).withSubject("Art").build());
+        cache.getMatchingIds(filter, addressBook);
+        assertEquals(addressBook.getPersonList().size(), filter.tests);
+    }
+
+    @Test
+    public void getMatchingIds_overCapacity_leastRecentlyUsedEvicted() {
+        CountingFilter first = new CountingFilter(person -> true);
+        CountingFilter second = new CountingFilter(person -> true);
+        cache.getMatchingIds(first, addressBook);
+        cache.getMatchingIds(second, addressBook);
+        cache.getMatchingIds(first, addressBook);
+        cache.getMatchingIds(nameFilter("alice"), addressBook);
+        assertEquals(2, cache.size());
+        first.tests = 0;
+        second.tests = 0;
+
+        cache.getMatchingIds(first, addressBook);
+        assertEquals(0, first.tests);
+        cache.getMatchingIds(second, addressBook);
+        assertEquals(addressBook.getPersonList().size(), second.tests);
+    }
+
+    @Test
+    public void getMatchingIds_equalFilters_shareEntry() {
+        cache.getMatchingIds(nameFilter("alice"), addressBook);
+        cache.getMatchingIds(nameFilter("alice"), addressBook);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void getMatchingIds_largeIds_matchesFilter() {
+        Person zed = new PersonBuilder().withId(Integer.MAX_VALUE - 1).withName("Zed").build();
+        addressBook.addPerson(zed);
+        Filter<Person> filter = nameFilter("zed");
+        assertEquals(idsOf(zed), cache.getMatchingIds(filter, addressBook));
+
+        Person zedMeier = new PersonBuilder().withId(Integer.MAX_VALUE - 2).withName("Zed Meier").build();
+        addressBook.addPerson(zedMeier);
+        assertEquals(idsOf(zed, zedMeier), cache.getMatchingIds(filter, addressBook));
+        assertTrue(cache.toPredicate(filter, addressBook).test(zedMeier));
+    }
+
+    @Test
+    public void getMatchingIds_mostPersonsRemoved_idsNumberedAgain() {
+        List<Person> added = new ArrayList<>();
+        for (int i = 0; i < 57; i++) {
+            Person person = new PersonBuilder().withId(0).withName("Student Meier " + i).build();
+            addressBook.addPerson(person);
+            added.add(person);
+        }
+        cache.getMatchingIds(nameFilter("student"), addressBook);
+        added.subList(0, 32).forEach(addressBook::removePerson);
+
+        CountingFilter filter = new CountingFilter(person -> person.getName().fullName.contains("Meier"));
+        Set<Integer> expected = idsOf(BENSON, DANIEL);
+        added.subList(33, 57).forEach(person -> expected.add(person.getId()));
+        cache.getMatchingIds(filter, addressBook);
+        filter.tests = 0;
+
+        // over half of the IDs numbered are now removed, so the entry is translated to new numbers and then patched,
+        // which tests no person as the only person changed is removed
+        addressBook.removePerson(added.get(32));
+        assertEquals(expected, cache.getMatchingIds(filter, addressBook));
+        assertEquals(0, filter.tests);
+        assertTrue(cache.getSlotCount() <= addressBook.getPersonList().size() + 1);
+        assertTrue(cache.toPredicate(filter, addressBook).test(DANIEL));
+        assertFalse(cache.toPredicate(filter, addressBook).test(added.get(32)));
+    }
+
+    @Test
+    public void toPredicate_addressBookChanged_fallsBackToFilter() {
+        Predicate<Person> predicate = cache.toPredicate(nameFilter("zed"), addressBook);
+        Person zed = new PersonBuilder().withId(0).withName("Zed").build();
+        assertFalse(predicate.test(ALICE));
+
+        addressBook.addPerson(zed);
+        assertTrue(predicate.test(zed));
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void forSessions_attendanceRecordsChanged_patched() {
+        FilterResultCache<Session> sessionCache = FilterResultCache.forSessions(2);
+        Filter<Session> filter = ab -> session -> ab.getSessionAttendanceRecords(session.getId()).size() > 4;
+        assertEquals(Set.of(), sessionCache.getMatchingIds(filter, addressBook));
+
+        addressBook.addAttendanceRecord(new AttendanceRecordBuilder()
+                .withPerson(GEORGE).withSession(ENGLISH_SESSION).build());
+        assertEquals(Set.of(ENGLISH_SESSION.getId()), sessionCache.getMatchingIds(filter, addressBook));
+    }
+
+    private static NameContainsKeywordsFilter nameFilter(String keyword) {
+        return new NameContainsKeywordsFilter(List.of(keyword));
+    }
+
+    private static Set<Integer> idsOf(Person... persons) {
+        Set<Integer> ids = new HashSet<>();
+        for (Person person : persons) {
+            ids.add(person.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * A filter that counts how many times its predicate is tested.
+     */
+    private static class CountingFilter implements Filter<Person> {
+        private final Predicate<Person> predicate;
+        private int tests;
+
+        CountingFilter(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+            return person -> {
+                tests++;
+                return predicate.test(person);
+            };
+        }
+    }
+}
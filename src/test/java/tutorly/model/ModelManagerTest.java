@@ -3,6 +3,7 @@ package tutorly.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.model.Model.FILTER_SHOW_ALL_PERSONS;
 import static tutorly.testutil.Assert.assertThrows;
@@ -13,6 +14,7 @@ import static tutorly.testutil.TypicalAddressBook.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -118,6 +120,25 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getAddressBookSnapshot_addressBookChanged_takesNewSnapshot() {
+        AddressBookSnapshot initialSnapshot = modelManager.getAddressBookSnapshot();
+        assertEquals(0, initialSnapshot.getVersion());
+        assertEquals(List.of(), initialSnapshot.getPersonList());
+
+        modelManager.addPerson(ALICE);
+        AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(List.of(), initialSnapshot.getPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_addressBookUnchanged_returnsSameSnapshot() {
+        AddressBookSnapshot initialSnapshot = modelManager.getAddressBookSnapshot();
+        assertSame(initialSnapshot, modelManager.getAddressBookSnapshot());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
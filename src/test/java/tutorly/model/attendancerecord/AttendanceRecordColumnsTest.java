@@ -0,0 +1,66 @@
+package tutorly.model.attendancerecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceRecordColumnsTest {
+
+    private final AttendanceRecordColumns columns = new AttendanceRecordColumns();
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.get(0));
+    }
+
+    @Test
+    public void add_records_readBackEqual() {
+        AttendanceRecord absent = new AttendanceRecord(1, 2, false, Feedback.empty());
+        AttendanceRecord present = new AttendanceRecord(1, 3, true, new Feedback("Good work"));
+        columns.add(absent);
+        columns.add(0, present);
+        assertEquals(List.of(present, absent), columns);
+    }
+
+    @Test
+    public void indexOf_sortedRecords_returnsPosition() {
+        columns.add(new AttendanceRecord(1, 5, true, Feedback.empty()));
+        columns.add(new AttendanceRecord(2, 1, true, Feedback.empty()));
+        columns.add(new AttendanceRecord(2, 3, true, Feedback.empty()));
+        assertEquals(2, columns.indexOf(2, 3));
+        assertEquals(-3, columns.indexOf(2, 2));
+        assertEquals(1, columns.lowerBound(2));
+        assertEquals(3, columns.lowerBound(3));
+    }
+
+    @Test
+    public void randomOperations_sameAsArrayList() {
+        List<AttendanceRecord> expected = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            AttendanceRecord record = new AttendanceRecord(i, random.nextInt(10), random.nextBoolean(),
+                    random.nextInt(4) == 0 ? new Feedback("Feedback " + i) : Feedback.empty());
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, record);
+                columns.add(index, record);
+            } else if (operation == 1 && expected.size() > 100) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), columns.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, record), columns.set(index, record));
+            }
+        }
+        assertEquals(expected, columns);
+
+        columns.clear();
+        assertEquals(List.of(), columns);
+    }
+}
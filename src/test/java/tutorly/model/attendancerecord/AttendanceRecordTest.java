@@ -59,6 +59,15 @@ public class AttendanceRecordTest {
         assert attendanceRecord.equals(attendanceRecordCopy);
     }
 
+    @Test
+    public void hashCode_equalRecords_equal() {
+        AttendanceRecord attendanceRecord = new AttendanceRecord(student.getId(), session.getId(),
+                false, new Feedback("Feedback"));
+        AttendanceRecord attendanceRecordCopy = new AttendanceRecord(student.getId(), session.getId(),
+                false, new Feedback("Feedback"));
+        assertEquals(attendanceRecord.hashCode(), attendanceRecordCopy.hashCode());
+    }
+
     @Test
     public void equals_sameObject() {
         AttendanceRecord attendanceRecord = new AttendanceRecord(student.getId(), session.getId(),
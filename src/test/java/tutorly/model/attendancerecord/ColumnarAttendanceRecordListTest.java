@@ -0,0 +1,119 @@
+package tutorly.model.attendancerecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.uniquelist.exceptions.DuplicateElementException;
+import tutorly.model.uniquelist.exceptions.ElementNotFoundException;
+import tutorly.testutil.AttendanceRecordBuilder;
+
+public class ColumnarAttendanceRecordListTest {
+
+    private final ColumnarAttendanceRecordList columnarList = new ColumnarAttendanceRecordList();
+
+    @Test
+    public void add_record_readBackEqualButNotSame() {
+        AttendanceRecord record = record(1, 1, true, "Good work");
+        columnarList.add(record);
+        assertEquals(List.of(record), columnarList.asUnmodifiableObservableList());
+        assertNotSame(record, columnarList.asUnmodifiableObservableList().get(0));
+        assertEquals(Optional.of(record), columnarList.find(record(1, 1, false, "")));
+        assertThrows(DuplicateElementException.class, () -> columnarList.add(record(1, 1, false, "")));
+    }
+
+    @Test
+    public void setAndRemove_equalRecord_success() {
+        columnarList.add(record(1, 1, true, ""));
+        columnarList.set(record(1, 1, true, ""), record(1, 1, false, "Absent"));
+        assertEquals(Optional.of(record(1, 1, false, "Absent")), columnarList.findRecord(1, 1));
+
+        assertThrows(ElementNotFoundException.class, () -> columnarList.remove(record(1, 1, true, "")));
+        columnarList.remove(record(1, 1, false, "Absent"));
+        assertEquals(List.of(), columnarList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getSessionAndStudentRecords_records_returnsRosters() {
+        columnarList.setAll(List.of(record(2, 1, true, ""), record(1, 2, true, ""), record(1, 1, false, ""),
+                record(3, 2, true, "")));
+        assertEquals(List.of(record(1, 1, false, ""), record(2, 1, true, "")), columnarList.getSessionRecords(1));
+        assertEquals(List.of(record(1, 1, false, ""), record(1, 2, true, "")), columnarList.getStudentRecords(1));
+        assertEquals(List.of(), columnarList.getSessionRecords(3));
+        assertEquals(List.of(), columnarList.getStudentRecords(4));
+        assertThrows(UnsupportedOperationException.class, () -> columnarList.getStudentRecords(1).remove(0));
+
+        columnarList.removeAll(columnarList.getSessionRecords(2));
+        assertEquals(List.of(record(1, 1, false, ""), record(2, 1, true, "")),
+                columnarList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void undoBatch_modifications_restoresRecords() {
+        columnarList.setAll(List.of(record(1, 1, true, ""), record(2, 1, true, "")));
+        List<AttendanceRecord> before = new ArrayList<>(columnarList.asUnmodifiableObservableList());
+
+        columnarList.beginBatch();
+        columnarList.add(record(1, 2, true, ""));
+        columnarList.set(record(2, 1, true, ""), record(3, 1, false, "Moved"));
+        columnarList.remove(record(1, 1, true, ""));
+        columnarList.undoBatch();
+        columnarList.endBatch();
+
+        assertEquals(before, columnarList.asUnmodifiableObservableList());
+        assertEquals(List.of(record(1, 1, true, ""), record(2, 1, true, "")), columnarList.getSessionRecords(1));
+    }
+
+    @Test
+    public void equals_sameRecordsAsObjectList_returnsTrue() {
+        UniqueAttendanceRecordList objectList = new UniqueAttendanceRecordList();
+        objectList.add(record(2, 1, true, ""));
+        objectList.add(record(1, 1, true, "Good work"));
+        columnarList.add(record(1, 1, true, "Good work"));
+        columnarList.add(record(2, 1, true, ""));
+        assertEquals(objectList, columnarList);
+    }
+
+    @Test
+    public void randomOperations_sameAsUniqueAttendanceRecordList() {
+        UniqueAttendanceRecordList expected = new UniqueAttendanceRecordList();
+        Random random = new Random(42);
+        for (int i = 0; i < 3_000; i++) {
+            AttendanceRecord record = record(1 + random.nextInt(30), 1 + random.nextInt(10), random.nextBoolean(),
+                    random.nextInt(4) == 0 ? "Feedback " + random.nextInt(3) : "");
+            Optional<AttendanceRecord> existing = expected.findRecord(record.getStudentId(), record.getSessionId());
+            int operation = random.nextInt(4);
+            if (existing.isEmpty()) {
+                expected.add(record);
+                columnarList.add(record);
+            } else if (operation == 0) {
+                expected.remove(existing.get());
+                columnarList.remove(existing.get());
+            } else if (operation == 1) {
+                expected.set(existing.get(), record);
+                columnarList.set(existing.get(), record);
+            } else if (operation == 2) {
+                List<AttendanceRecord> sessionRecords = expected.getSessionRecords(record.getSessionId());
+                assertEquals(sessionRecords, columnarList.getSessionRecords(record.getSessionId()));
+                expected.removeAll(sessionRecords);
+                columnarList.removeAll(columnarList.getSessionRecords(record.getSessionId()));
+            } else {
+                assertEquals(expected.getStudentRecords(record.getStudentId()),
+                        columnarList.getStudentRecords(record.getStudentId()));
+            }
+            assertEquals(expected, columnarList);
+        }
+    }
+
+    private static AttendanceRecord record(int studentId, int sessionId, boolean isPresent, String feedback) {
+        return new AttendanceRecordBuilder().withStudentId(studentId).withSessionId(sessionId)
+                .withIsPresent(isPresent).withFeedback(new Feedback(feedback)).build();
+    }
+}
@@ -7,12 +7,15 @@ import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_ENGLISH;
 import static tutorly.testutil.TypicalAddressBook.BENSON_ATTEND_MATH;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import tutorly.model.uniquelist.exceptions.DuplicateElementException;
 import tutorly.model.uniquelist.exceptions.ElementNotFoundException;
 import tutorly.testutil.AttendanceRecordBuilder;
@@ -107,6 +110,140 @@ public class UniqueAttendanceRecordListTest {
                 uniqueAttendanceRecordList.set(ALICE_ATTEND_ENGLISH, BENSON_ATTEND_MATH));
     }
 
+    @Test
+    public void add_recordsOutOfOrder_keepsRecordsSortedByStudentIdAndSessionId() {
+        AttendanceRecord third = new AttendanceRecordBuilder().withStudentId(3).withSessionId(1).build();
+        AttendanceRecord first = new AttendanceRecordBuilder().withStudentId(1).withSessionId(1).build();
+        AttendanceRecord second = new AttendanceRecordBuilder().withStudentId(2).withSessionId(1).build();
+        AttendanceRecord firstLater = new AttendanceRecordBuilder().withStudentId(1).withSessionId(2).build();
+        uniqueAttendanceRecordList.add(third);
+        uniqueAttendanceRecordList.add(firstLater);
+        uniqueAttendanceRecordList.add(first);
+        uniqueAttendanceRecordList.add(second);
+
+        // records of the same student are ordered by session ID, not by insertion order
+        assertEquals(List.of(first, firstLater, second, third),
+                uniqueAttendanceRecordList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_record_firesSingleAddition() {
+        uniqueAttendanceRecordList.add(BENSON_ATTEND_MATH);
+        List<ListChangeListener.Change<? extends AttendanceRecord>> changes = new ArrayList<>();
+        uniqueAttendanceRecordList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<AttendanceRecord>) changes::add);
+
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends AttendanceRecord> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasAdded());
+        assertFalse(change.wasPermutated());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void set_editedRecordOutOfOrder_movesRecordToSortedPosition() {
+        AttendanceRecord first = new AttendanceRecordBuilder().withStudentId(1).withSessionId(1).build();
+        AttendanceRecord second = new AttendanceRecordBuilder().withStudentId(2).withSessionId(1).build();
+        AttendanceRecord third = new AttendanceRecordBuilder().withStudentId(3).withSessionId(1).build();
+        uniqueAttendanceRecordList.setAll(List.of(first, second, third));
+
+        AttendanceRecord moved = new AttendanceRecordBuilder().withStudentId(4).withSessionId(1).build();
+        uniqueAttendanceRecordList.set(first, moved);
+        assertEquals(List.of(second, third, moved), uniqueAttendanceRecordList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_recordsInterleavedWithExistingRecords_mergesInSortedOrder() {
+        AttendanceRecord first = new AttendanceRecordBuilder().withStudentId(1).withSessionId(1).build();
+        AttendanceRecord second = new AttendanceRecordBuilder().withStudentId(2).withSessionId(1).build();
+        AttendanceRecord third = new AttendanceRecordBuilder().withStudentId(3).withSessionId(1).build();
+        AttendanceRecord secondLater = new AttendanceRecordBuilder().withStudentId(2).withSessionId(2).build();
+        uniqueAttendanceRecordList.add(second);
+        uniqueAttendanceRecordList.add(third);
+
+        uniqueAttendanceRecordList.addAll(List.of(secondLater, first));
+        assertEquals(List.of(first, second, secondLater, third),
+                uniqueAttendanceRecordList.asUnmodifiableObservableList());
+        assertTrue(uniqueAttendanceRecordList.contains(secondLater));
+    }
+
+    @Test
+    public void addAll_duplicateRecords_throwsDuplicateElementException() {
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        assertThrows(DuplicateElementException.class, () ->
+                uniqueAttendanceRecordList.addAll(List.of(BENSON_ATTEND_MATH, BENSON_ATTEND_MATH)));
+        assertThrows(DuplicateElementException.class, () ->
+                uniqueAttendanceRecordList.addAll(List.of(BENSON_ATTEND_MATH, ALICE_ATTEND_ENGLISH)));
+        assertEquals(List.of(ALICE_ATTEND_ENGLISH), uniqueAttendanceRecordList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void find_equivalentRecordInList_returnsRecordInList() {
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        AttendanceRecord editedRecord = new AttendanceRecordBuilder(ALICE_ATTEND_ENGLISH).withIsPresent(false).build();
+        assertEquals(Optional.of(ALICE_ATTEND_ENGLISH), uniqueAttendanceRecordList.find(editedRecord));
+    }
+
+    @Test
+    public void find_afterSetAndRemove_returnsUpdatedRecord() {
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        AttendanceRecord editedRecord = new AttendanceRecordBuilder(ALICE_ATTEND_ENGLISH).withIsPresent(false).build();
+        uniqueAttendanceRecordList.set(ALICE_ATTEND_ENGLISH, editedRecord);
+        assertEquals(Optional.of(editedRecord), uniqueAttendanceRecordList.find(ALICE_ATTEND_ENGLISH));
+
+        uniqueAttendanceRecordList.remove(editedRecord);
+        assertEquals(Optional.empty(), uniqueAttendanceRecordList.find(ALICE_ATTEND_ENGLISH));
+    }
+
+    @Test
+    public void findRecord_studentAndSessionIds_returnsMatchingRecord() {
+        AttendanceRecord swappedIds = new AttendanceRecordBuilder()
+                .withStudentId(ALICE_ATTEND_ENGLISH.getSessionId())
+                .withSessionId(ALICE_ATTEND_ENGLISH.getStudentId()).build();
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        uniqueAttendanceRecordList.add(swappedIds);
+
+        assertEquals(Optional.of(ALICE_ATTEND_ENGLISH), uniqueAttendanceRecordList.findRecord(
+                ALICE_ATTEND_ENGLISH.getStudentId(), ALICE_ATTEND_ENGLISH.getSessionId()));
+        assertEquals(Optional.of(swappedIds), uniqueAttendanceRecordList.findRecord(
+                ALICE_ATTEND_ENGLISH.getSessionId(), ALICE_ATTEND_ENGLISH.getStudentId()));
+        assertEquals(Optional.empty(), uniqueAttendanceRecordList.findRecord(
+                ALICE_ATTEND_ENGLISH.getStudentId(), ALICE_ATTEND_ENGLISH.getSessionId() + 100));
+    }
+
+    @Test
+    public void getSessionRecords_afterAddSetAndRemove_returnsRoster() {
+        AttendanceRecord carlAttendEnglish = new AttendanceRecordBuilder(ALICE_ATTEND_ENGLISH)
+                .withStudentId(ALICE_ATTEND_ENGLISH.getStudentId() + 100).build();
+        uniqueAttendanceRecordList.add(carlAttendEnglish);
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        uniqueAttendanceRecordList.add(BENSON_ATTEND_MATH);
+        assertEquals(List.of(ALICE_ATTEND_ENGLISH, carlAttendEnglish),
+                uniqueAttendanceRecordList.getSessionRecords(ALICE_ATTEND_ENGLISH.getSessionId()));
+        assertEquals(List.of(BENSON_ATTEND_MATH),
+                uniqueAttendanceRecordList.getStudentRecords(BENSON_ATTEND_MATH.getStudentId()));
+
+        AttendanceRecord editedRecord = new AttendanceRecordBuilder(ALICE_ATTEND_ENGLISH).withIsPresent(false).build();
+        uniqueAttendanceRecordList.set(ALICE_ATTEND_ENGLISH, editedRecord);
+        uniqueAttendanceRecordList.remove(carlAttendEnglish);
+        assertEquals(List.of(editedRecord),
+                uniqueAttendanceRecordList.getSessionRecords(ALICE_ATTEND_ENGLISH.getSessionId()));
+
+        uniqueAttendanceRecordList.remove(editedRecord);
+        assertEquals(List.of(), uniqueAttendanceRecordList.getSessionRecords(ALICE_ATTEND_ENGLISH.getSessionId()));
+        assertEquals(List.of(), uniqueAttendanceRecordList.getStudentRecords(ALICE_ATTEND_ENGLISH.getStudentId()));
+    }
+
+    @Test
+    public void getSessionRecords_modify_throwsUnsupportedOperationException() {
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        List<AttendanceRecord> roster = uniqueAttendanceRecordList.getSessionRecords(
+                ALICE_ATTEND_ENGLISH.getSessionId());
+        assertThrows(UnsupportedOperationException.class, () -> roster.remove(0));
+    }
+
     @Test
     public void remove_nullRecord_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueAttendanceRecordList.remove(null));
@@ -125,6 +262,32 @@ public class UniqueAttendanceRecordListTest {
         assertEquals(expectedAttendanceRecordList, uniqueAttendanceRecordList);
     }
 
+    @Test
+    public void removeAll_recordDoesNotExist_throwsElementNotFoundException() {
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        assertThrows(ElementNotFoundException.class, () ->
+                uniqueAttendanceRecordList.removeAll(List.of(ALICE_ATTEND_ENGLISH, BENSON_ATTEND_MATH)));
+        assertEquals(List.of(ALICE_ATTEND_ENGLISH), uniqueAttendanceRecordList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_sessionRecords_removesRecordsInSingleChange() {
+        AttendanceRecord first = new AttendanceRecordBuilder().withStudentId(1).withSessionId(1).build();
+        AttendanceRecord second = new AttendanceRecordBuilder().withStudentId(2).withSessionId(2).build();
+        AttendanceRecord third = new AttendanceRecordBuilder().withStudentId(3).withSessionId(1).build();
+        uniqueAttendanceRecordList.setAll(List.of(first, second, third));
+        List<ListChangeListener.Change<? extends AttendanceRecord>> changes = new ArrayList<>();
+        uniqueAttendanceRecordList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<AttendanceRecord>) changes::add);
+
+        uniqueAttendanceRecordList.removeAll(uniqueAttendanceRecordList.getSessionRecords(1));
+        assertEquals(List.of(second), uniqueAttendanceRecordList.asUnmodifiableObservableList());
+        assertEquals(List.of(), uniqueAttendanceRecordList.getSessionRecords(1));
+        assertEquals(List.of(), uniqueAttendanceRecordList.getStudentRecords(1));
+        assertEquals(Optional.empty(), uniqueAttendanceRecordList.findRecord(3, 1));
+        assertEquals(1, changes.size());
+    }
+
     @Test
     public void setAll_nullAttendanceRecordList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
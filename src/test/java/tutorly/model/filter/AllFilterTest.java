@@ -0,0 +1,131 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+public class AllFilterTest {
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        Filter<Person> firstFilter = Filter.all(List.of(new NameContainsKeywordsFilter(List.of("Alice"))));
+        Filter<Person> secondFilter = Filter.all(List.of(new NameContainsKeywordsFilter(List.of("Benson"))));
+
+        // same object -> returns true
+        assertEquals(firstFilter, firstFilter);
+
+        // same values -> returns true
+        assertEquals(firstFilter, Filter.all(List.of(new NameContainsKeywordsFilter(List.of("Alice")))));
+
+        // different types -> returns false
+        assertNotEquals(1, firstFilter);
+        assertNotEquals(Filter.any(List.of(new NameContainsKeywordsFilter(List.of("Alice")))), firstFilter);
+
+        // null -> returns false
+        assertNotEquals(null, firstFilter);
+
+        // different filters -> returns false
+        assertNotEquals(firstFilter, secondFilter);
+    }
+
+    @Test
+    public void test_allFiltersPass_returnsTrue() {
+        Predicate<Person> predicate = Filter.all(List.<Filter<Person>>of(
+                new NameContainsKeywordsFilter(List.of("Meier")),
+                new PhoneContainsKeywordsFilter(List.of("9876")))).toPredicate(addressBook);
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(DANIEL));
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void test_noFilters_returnsTrue() {
+        assertTrue(Filter.<Person>all(List.of()).toPredicate(addressBook).test(ALICE));
+    }
+
+    @Test
+    public void test_cheapSelectiveFilterFirst_skipsOtherFilters() {
+        List<String> tested = new ArrayList<>();
+        EstimatedFilter broad = new EstimatedFilter("broad", 1, 0.9, true, tested);
+        EstimatedFilter expensive = new EstimatedFilter("expensive", 10, 0.1, true, tested);
+        EstimatedFilter selective = new EstimatedFilter("selective", 1, 0.1, false, tested);
+
+        Predicate<Person> predicate = Filter.all(List.<Filter<Person>>of(broad, expensive, selective))
+                .toPredicate(addressBook);
+        assertFalse(predicate.test(ALICE));
+        assertEquals(List.of("selective"), tested);
+    }
+
+    @Test
+    public void estimates_combineFilters() {
+        Filter<Person> filter = Filter.all(List.<Filter<Person>>of(
+                new EstimatedFilter("first", 2, 0.5, true, new ArrayList<>()),
+                new EstimatedFilter("second", 1, 0.5, true, new ArrayList<>())));
+
+        // the cheaper filter is tested first, and the other filter only for the half that passes it
+        assertEquals(2, filter.estimateCost(addressBook), 1e-9);
+        assertEquals(0.25, filter.estimateSelectivity(addressBook), 1e-9);
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Filter<Person>> filters = List.of(new NameContainsKeywordsFilter(List.of("Alice")));
+        Filter<Person> filter = Filter.all(filters);
+
+        String expected = AllFilter.class.getCanonicalName() + "{filters=" + filters + "}";
+        assertEquals(expected, filter.toString());
+    }
+
+    /**
+     * A filter with fixed estimates that records when its predicate is tested.
+     */
+    static class EstimatedFilter implements Filter<Person> {
+        private final String name;
+        private final double cost;
+        private final double selectivity;
+        private final boolean result;
+        private final List<String> tested;
+
+        EstimatedFilter(String name, double cost, double selectivity, boolean result, List<String> tested) {
+            this.name = name;
+            this.cost = cost;
+            this.selectivity = selectivity;
+            this.result = result;
+            this.tested = tested;
+        }
+
+        @Override
+        public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+            return person -> {
+                tested.add(name);
+                return result;
+            };
+        }
+
+        @Override
+        public double estimateCost(ReadOnlyAddressBook addressBook) {
+            return cost;
+        }
+
+        @Override
+        public double estimateSelectivity(ReadOnlyAddressBook addressBook) {
+            return selectivity;
+        }
+    }
+}
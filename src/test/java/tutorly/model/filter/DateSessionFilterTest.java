@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.time.LocalDate;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +49,7 @@ public class DateSessionFilterTest {
         DateSessionFilter filter = new DateSessionFilter(firstDate);
         Session session = new SessionBuilder().withTimeslot(
                 new Timeslot(firstDate.atTime(0, 0), secondDate.atTime(0, 0))).build();
+        addressBook.addSession(session);
         assertTrue(filter.toPredicate(addressBook).test(session));
 
         // within date range
@@ -65,6 +67,7 @@ public class DateSessionFilterTest {
         DateSessionFilter filter = new DateSessionFilter(firstDate.minusDays(1));
         Session session = new SessionBuilder().withTimeslot(
                 new Timeslot(firstDate.atTime(0, 0), secondDate.atTime(0, 0))).build();
+        addressBook.addSession(session);
         assertFalse(filter.toPredicate(addressBook).test(session));
 
         // after end date
@@ -72,6 +75,19 @@ public class DateSessionFilterTest {
         assertFalse(filter.toPredicate(addressBook).test(session));
     }
 
+    @Test
+    public void test_sessionAddedOrRemovedAfterFilterCreated_followsAddressBook() {
+        DateSessionFilter filter = new DateSessionFilter(firstDate);
+        Predicate<Session> predicate = filter.toPredicate(addressBook);
+        Session session = new SessionBuilder().withTimeslot(
+                new Timeslot(firstDate.atTime(10, 0), firstDate.atTime(12, 0))).build();
+        addressBook.addSession(session);
+        assertTrue(predicate.test(session));
+
+        addressBook.removeSession(session);
+        assertFalse(predicate.test(session));
+    }
+
     @Test
     public void toStringMethod() {
         DateSessionFilter filter = new DateSessionFilter(firstDate);
@@ -0,0 +1,75 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+import tutorly.testutil.PersonBuilder;
+
+public class FilterCompilerTest {
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void compile_nestedAnyFilters_matchesAnyKeyword() {
+        Filter<Person> filter = Filter.any(List.of(
+                new NameContainsKeywordsFilter(List.of("Alice")),
+                Filter.any(List.of(
+                        new PhoneContainsKeywordsFilter(List.of("98765432")),
+                        Filter.any(List.of(new NameContainsKeywordsFilter(List.of("Carl")))))),
+                new AttendSessionFilter(Integer.MAX_VALUE)));
+
+        assertEquals(List.of(ALICE, BENSON, CARL), filterPersons(filter));
+    }
+
+    @Test
+    public void compile_nestedAllFilters_matchesAllKeywords() {
+        Filter<Person> filter = Filter.all(List.of(
+                new NameContainsKeywordsFilter(List.of("Meier")),
+                Filter.all(List.of(
+                        Filter.not(new NameContainsKeywordsFilter(List.of("Benson"))),
+                        new PhoneContainsKeywordsFilter(List.of("8765"))))));
+
+        assertEquals(List.of(DANIEL), filterPersons(filter));
+    }
+
+    @Test
+    public void compile_allInsideAny_matchesEither() {
+        Filter<Person> filter = Filter.any(List.of(
+                new NameContainsKeywordsFilter(List.of("Alice")),
+                Filter.all(List.of(
+                        new NameContainsKeywordsFilter(List.of("Meier")),
+                        new PhoneContainsKeywordsFilter(List.of("9876"))))));
+
+        assertEquals(List.of(ALICE, BENSON), filterPersons(filter));
+    }
+
+    @Test
+    public void compile_personAddedAfterCompiling_followsAddressBook() {
+        Predicate<Person> predicate = Filter.any(List.<Filter<Person>>of(
+                new NameContainsKeywordsFilter(List.of("Zed")),
+                new PhoneContainsKeywordsFilter(List.of("11112222")))).toPredicate(addressBook);
+
+        Person person = new PersonBuilder().withId(addressBook.getNextPersonId()).withName("Zed Lim").build();
+        addressBook.addPerson(person);
+        assertTrue(predicate.test(person));
+
+        addressBook.removePerson(person);
+        assertFalse(predicate.test(person));
+    }
+
+    private List<Person> filterPersons(Filter<Person> filter) {
+        return addressBook.getPersonList().filtered(filter.toPredicate(addressBook));
+    }
+}
@@ -2,22 +2,24 @@ package tutorly.model.filter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
 import tutorly.testutil.PersonBuilder;
 
 public class NameContainsKeywordsFilterTest {
 
-    private final AddressBook addressBook = getTypicalAddressBook();
-
     @Test
     public void equals() {
         List<String> firstFilterKeywordList = Collections.singletonList("first");
@@ -43,41 +45,65 @@ public class NameContainsKeywordsFilterTest {
         assertFalse(firstFilter.equals(secondFilter));
     }
 
+    @Test
+    public void hashCode_sameKeywordsOfOtherFilters_differ() {
+        List<String> keywords = List.of("12");
+        Set<Integer> hashCodes = new HashSet<>(List.of(new NameContainsKeywordsFilter(keywords).hashCode(),
+                new PhoneContainsKeywordsFilter(keywords).hashCode(),
+                new NameSimilarToKeywordsFilter(keywords).hashCode(),
+                new SubjectContainsKeywordsFilter(keywords).hashCode()));
+        assertEquals(4, hashCodes.size());
+        assertNotEquals(keywords.hashCode(), new NameContainsKeywordsFilter(keywords).hashCode());
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
         NameContainsKeywordsFilter filter = new NameContainsKeywordsFilter(Collections.singletonList("Alice"));
-        assertTrue(filter.toPredicate(addressBook).test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(matches(filter, new PersonBuilder().withName("Alice Bob").build()));
 
         // Multiple keywords
         filter = new NameContainsKeywordsFilter(Arrays.asList("Alice", "Bob"));
-        assertTrue(filter.toPredicate(addressBook).test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(matches(filter, new PersonBuilder().withName("Alice Bob").build()));
 
         // Only one matching keyword
         filter = new NameContainsKeywordsFilter(Arrays.asList("Bob", "Carol"));
-        assertTrue(filter.toPredicate(addressBook).test(new PersonBuilder().withName("Alice Carol").build()));
+        assertTrue(matches(filter, new PersonBuilder().withName("Alice Carol").build()));
 
         // Mixed-case keywords
         filter = new NameContainsKeywordsFilter(Arrays.asList("aLIce", "bOB"));
-        assertTrue(filter.toPredicate(addressBook).test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(matches(filter, new PersonBuilder().withName("Alice Bob").build()));
     }
 
     @Test
     public void test_nameDoesNotContainKeywords_returnsFalse() {
         // Zero keywords
         NameContainsKeywordsFilter filter = new NameContainsKeywordsFilter(Collections.emptyList());
-        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withName("Alice").build()));
+        assertFalse(matches(filter, new PersonBuilder().withName("Alice").build()));
 
         // Non-matching keyword
         filter = new NameContainsKeywordsFilter(Arrays.asList("Carol"));
-        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withName("Alice Bob").build()));
+        assertFalse(matches(filter, new PersonBuilder().withName("Alice Bob").build()));
 
         // Keywords match phone, email and address, but does not match name
         filter = new NameContainsKeywordsFilter(Arrays.asList("12345", "alice@email.com", "Main", "Street"));
-        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withName("Alice").withPhone("12345")
+        assertFalse(matches(filter, new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void estimates_followIndex() {
+        AddressBook addressBook = getTypicalAddressBook();
+        NameContainsKeywordsFilter filter = new NameContainsKeywordsFilter(List.of("Meier", "Alice"));
+
+        // one lookup per keyword, matching Benson, Daniel and Alice out of the 7 typical persons
+        assertEquals(2, filter.estimateCost(addressBook));
+        assertEquals(3.0 / 7, filter.estimateSelectivity(addressBook), 1e-9);
+
+        // no persons
+        assertEquals(0, filter.estimateSelectivity(new AddressBook()));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -87,4 +113,13 @@ public class NameContainsKeywordsFilterTest {
         assertEquals(expected, filter.toString());
     }
 
+    /**
+     * Returns true if {@code person} passes {@code filter} once it is added to an empty address book.
+     */
+    private static boolean matches(Filter<Person> filter, Person person) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        return filter.toPredicate(addressBook).test(person);
+    }
+
 }
@@ -0,0 +1,102 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+import tutorly.testutil.PersonBuilder;
+
+public class NameSimilarToKeywordsFilterTest {
+
+    @Test
+    public void equals() {
+        NameSimilarToKeywordsFilter firstFilter = new NameSimilarToKeywordsFilter(List.of("first"));
+        NameSimilarToKeywordsFilter secondFilter = new NameSimilarToKeywordsFilter(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new NameSimilarToKeywordsFilter(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+        assertFalse(firstFilter.equals(new NameContainsKeywordsFilter(List.of("first"))));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void test_nameSimilarToKeywords_returnsTrue() {
+        // Exact word
+        NameSimilarToKeywordsFilter filter = new NameSimilarToKeywordsFilter(Collections.singletonList("John"));
+        assertTrue(matches(filter, new PersonBuilder().withName("John Doe").build()));
+
+        // Misspelled word
+        filter = new NameSimilarToKeywordsFilter(Arrays.asList("Jonh"));
+        assertTrue(matches(filter, new PersonBuilder().withName("John Doe").build()));
+
+        // Only one similar keyword, mixed case
+        filter = new NameSimilarToKeywordsFilter(Arrays.asList("xyzzy", "dOE"));
+        assertTrue(matches(filter, new PersonBuilder().withName("John Doe").build()));
+    }
+
+    @Test
+    public void test_nameNotSimilarToKeywords_returnsFalse() {
+        // Zero keywords
+        NameSimilarToKeywordsFilter filter = new NameSimilarToKeywordsFilter(Collections.emptyList());
+        assertFalse(matches(filter, new PersonBuilder().withName("John").build()));
+
+        // Substring, but too many edits from the whole word
+        filter = new NameSimilarToKeywordsFilter(Arrays.asList("Jo"));
+        assertFalse(matches(filter, new PersonBuilder().withName("John Doe").build()));
+
+        // Too many edits
+        filter = new NameSimilarToKeywordsFilter(Arrays.asList("Jxxnh"));
+        assertFalse(matches(filter, new PersonBuilder().withName("John Doe").build()));
+    }
+
+    @Test
+    public void test_personRenamedAfterFilterCreated_followsAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        Person person = new PersonBuilder().withName("John Doe").build();
+        addressBook.addPerson(person);
+        NameSimilarToKeywordsFilter filter = new NameSimilarToKeywordsFilter(List.of("Jonh"));
+        Person renamedPerson = new PersonBuilder(person).withName("Mary Doe").build();
+
+        assertTrue(filter.toPredicate(addressBook).test(person));
+        addressBook.setPerson(person, renamedPerson);
+        assertFalse(filter.toPredicate(addressBook).test(renamedPerson));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameSimilarToKeywordsFilter filter = new NameSimilarToKeywordsFilter(keywords);
+
+        String expected = NameSimilarToKeywordsFilter.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, filter.toString());
+    }
+
+    /**
+     * Returns true if {@code person} passes {@code filter} once it is added to an empty address book.
+     */
+    private static boolean matches(Filter<Person> filter, Person person) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        return filter.toPredicate(addressBook).test(person);
+    }
+
+}
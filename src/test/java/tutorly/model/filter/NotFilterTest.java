@@ -0,0 +1,84 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+
+public class NotFilterTest {
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        Filter<Person> firstFilter = Filter.not(new NameContainsKeywordsFilter(List.of("Alice")));
+        Filter<Person> secondFilter = Filter.not(new NameContainsKeywordsFilter(List.of("Benson")));
+
+        // same object -> returns true
+        assertEquals(firstFilter, firstFilter);
+
+        // same values -> returns true
+        assertEquals(firstFilter, Filter.not(new NameContainsKeywordsFilter(List.of("Alice"))));
+
+        // different types -> returns false
+        assertNotEquals(1, firstFilter);
+
+        // null -> returns false
+        assertNotEquals(null, firstFilter);
+
+        // different filter -> returns false
+        assertNotEquals(firstFilter, secondFilter);
+    }
+
+    @Test
+    public void hashCode_negatedFilter_differsFromFilter() {
+        Filter<Person> filter = new NameContainsKeywordsFilter(List.of("Alice"));
+        assertEquals(Filter.not(filter).hashCode(),
+                Filter.not(new NameContainsKeywordsFilter(List.of("Alice"))).hashCode());
+        assertNotEquals(filter.hashCode(), Filter.not(filter).hashCode());
+        assertNotEquals(Filter.any(List.of(filter)).hashCode(), Filter.all(List.of(filter)).hashCode());
+    }
+
+    @Test
+    public void test_negatesFilter() {
+        Predicate<Person> predicate = Filter.not(new NameContainsKeywordsFilter(List.of("Alice")))
+                .toPredicate(addressBook);
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+    }
+
+    @Test
+    public void test_combinedWithAll_excludesMatches() {
+        // Meier but not Daniel
+        Predicate<Person> predicate = Filter.all(List.<Filter<Person>>of(
+                new NameContainsKeywordsFilter(List.of("Meier")),
+                Filter.not(new NameContainsKeywordsFilter(List.of("Daniel"))))).toPredicate(addressBook);
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void estimateSelectivity_complementOfFilter() {
+        Filter<Person> filter = new NameContainsKeywordsFilter(List.of("Meier"));
+        assertEquals(1 - filter.estimateSelectivity(addressBook),
+                Filter.not(filter).estimateSelectivity(addressBook), 1e-9);
+        assertEquals(filter.estimateCost(addressBook), Filter.not(filter).estimateCost(addressBook), 1e-9);
+    }
+
+    @Test
+    public void toStringMethod() {
+        Filter<Person> inner = new NameContainsKeywordsFilter(List.of("Alice"));
+        String expected = NotFilter.class.getCanonicalName() + "{filter=" + inner + "}";
+        assertEquals(expected, Filter.not(inner).toString());
+    }
+}
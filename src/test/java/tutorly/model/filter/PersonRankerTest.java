@@ -0,0 +1,125 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.person.Person;
+import tutorly.testutil.PersonBuilder;
+
+public class PersonRankerTest {
+
+    private static final Person JOHN = new PersonBuilder().withId(1).withName("John Tan").withPhone("91234567").build();
+    private static final Person JOHNNY = new PersonBuilder().withId(2).withName("Johnny Lim").withPhone("81234567")
+            .build();
+    private static final Person LEEJOHN = new PersonBuilder().withId(3).withName("Leejohn Ng").withPhone("99999999")
+            .build();
+    private static final Person ALICE = new PersonBuilder().withId(4).withName("Alice Tan").withPhone("91230000")
+            .build();
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonRanker(List.of(), List.of(), List.of(), 0));
+    }
+
+    @Test
+    public void score_nameMatches_weightedByMatchKind() {
+        PersonRanker ranker = new PersonRanker(List.of("JOHN"), List.of(), List.of(), 1);
+
+        // whole word > start of word > part of word > no match
+        assertEquals(PersonRanker.EXACT_WEIGHT, ranker.score(JOHN));
+        assertEquals(PersonRanker.PREFIX_WEIGHT, ranker.score(JOHNNY));
+        assertEquals(PersonRanker.SUBSTRING_WEIGHT, ranker.score(LEEJOHN));
+        assertEquals(0, ranker.score(ALICE));
+    }
+
+    @Test
+    public void score_fuzzyNameMatches_weightedBelowSubstring() {
+        PersonRanker ranker = new PersonRanker(List.of(), List.of("jonh", "john", "ohn"), List.of(), 1);
+
+        // "jonh" only matches with a spelling mistake, the others as a whole word and as part of a word
+        assertEquals(PersonRanker.FUZZY_WEIGHT + PersonRanker.EXACT_WEIGHT + PersonRanker.SUBSTRING_WEIGHT,
+                ranker.score(JOHN));
+        assertEquals(0, new PersonRanker(List.of(), List.of("jonh"), List.of(), 1).score(ALICE));
+        assertTrue(PersonRanker.FUZZY_WEIGHT < PersonRanker.SUBSTRING_WEIGHT);
+    }
+
+    @Test
+    public void score_multipleKeywords_addsUp() {
+        PersonRanker ranker = new PersonRanker(List.of("john", "tan"), List.of(), List.of("9123", "4567"), 1);
+
+        assertEquals(2 * PersonRanker.EXACT_WEIGHT + 2 * PersonRanker.PHONE_WEIGHT, ranker.score(JOHN));
+        assertEquals(PersonRanker.EXACT_WEIGHT + PersonRanker.PHONE_WEIGHT, ranker.score(ALICE));
+    }
+
+    @Test
+    public void rank_moreMatchesThanLimit_returnsBestFirst() {
+        PersonRanker ranker = new PersonRanker(List.of("john"), List.of(), List.of(), 2);
+        assertEquals(List.of(JOHN, JOHNNY), ranker.rank(List.of(LEEJOHN, ALICE, JOHNNY, JOHN), person -> true));
+    }
+
+    @Test
+    public void rank_equalScores_orderedById() {
+        PersonRanker ranker = new PersonRanker(List.of("tan"), List.of(), List.of(), 5);
+        assertEquals(List.of(JOHN, ALICE), ranker.rank(List.of(ALICE, JOHN), person -> person.getId() != 2));
+    }
+
+    @Test
+    public void rank_predicate_onlyRanksMatchingPersons() {
+        PersonRanker ranker = new PersonRanker(List.of("john"), List.of(), List.of(), 5);
+        assertEquals(List.of(JOHNNY, ALICE),
+                ranker.rank(List.of(JOHN, JOHNNY, LEEJOHN, ALICE), person -> person.getId() % 2 == 0));
+    }
+
+    @Test
+    public void rank_randomPersons_sameAsSortingAll() {
+        Random random = new Random(42);
+        String[] words = {"an", "ann", "anna", "bob", "joanne", "tan"};
+        List<Person> persons = new ArrayList<>();
+        for (int id = 1; id <= 500; id++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            persons.add(new PersonBuilder().withId(id).withName(name).withPhone("9" + random.nextInt(10_000_000))
+                    .build());
+        }
+
+        PersonRanker ranker = new PersonRanker(List.of("an", "anna"), List.of(), List.of("12"), 20);
+        List<Person> expected = persons.stream()
+                .sorted(Comparator.comparingInt((Person person) -> -ranker.score(person))
+                        .thenComparingInt(Person::getId))
+                .limit(20)
+                .toList();
+        assertEquals(expected, ranker.rank(persons, person -> true));
+        assertEquals(expected, persons.stream().sorted(ranker.comparator()).limit(20).toList());
+    }
+
+    @Test
+    public void equals() {
+        PersonRanker ranker = new PersonRanker(List.of("john"), List.of(), List.of("9123"), 5);
+
+        // same object -> returns true
+        assertTrue(ranker.equals(ranker));
+
+        // same values -> returns true
+        assertTrue(ranker.equals(new PersonRanker(List.of("John"), List.of(), List.of("9123"), 5)));
+
+        // different types -> returns false
+        assertFalse(ranker.equals(1));
+
+        // null -> returns false
+        assertFalse(ranker.equals(null));
+
+        // different values -> returns false
+        assertFalse(ranker.equals(new PersonRanker(List.of("alice"), List.of(), List.of("9123"), 5)));
+        assertFalse(ranker.equals(new PersonRanker(List.of("john"), List.of(), List.of(), 5)));
+        assertFalse(ranker.equals(new PersonRanker(List.of(), List.of("john"), List.of("9123"), 5)));
+        assertFalse(ranker.equals(new PersonRanker(List.of("john"), List.of(), List.of("9123"), 6)));
+    }
+}
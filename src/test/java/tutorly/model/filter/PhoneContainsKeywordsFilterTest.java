@@ -3,7 +3,6 @@ package tutorly.model.filter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -12,12 +11,11 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
 import tutorly.testutil.PersonBuilder;
 
 public class PhoneContainsKeywordsFilterTest {
 
-    private final AddressBook addressBook = getTypicalAddressBook();
-
     @Test
     public void equals() {
         List<String> firstFilterKeywordList = Collections.singletonList("9123");
@@ -47,30 +45,30 @@ public class PhoneContainsKeywordsFilterTest {
     public void test_phoneContainsKeywords_returnsTrue() {
         // One keyword
         PhoneContainsKeywordsFilter filter = new PhoneContainsKeywordsFilter(Collections.singletonList("912"));
-        assertTrue(filter.toPredicate(addressBook).test(new PersonBuilder().withPhone("91234567").build()));
+        assertTrue(matches(filter, new PersonBuilder().withPhone("91234567").build()));
 
         // Multiple keywords
         filter = new PhoneContainsKeywordsFilter(Arrays.asList("912", "456"));
-        assertTrue(filter.toPredicate(addressBook).test(new PersonBuilder().withPhone("91234567").build()));
+        assertTrue(matches(filter, new PersonBuilder().withPhone("91234567").build()));
 
         // Only one matching keyword
         filter = new PhoneContainsKeywordsFilter(Arrays.asList("912", "000"));
-        assertTrue(filter.toPredicate(addressBook).test(new PersonBuilder().withPhone("91234567").build()));
+        assertTrue(matches(filter, new PersonBuilder().withPhone("91234567").build()));
     }
 
     @Test
     public void test_phoneDoesNotContainKeywords_returnsFalse() {
         // Zero keywords
         PhoneContainsKeywordsFilter filter = new PhoneContainsKeywordsFilter(Collections.emptyList());
-        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withName("Alice").build()));
+        assertFalse(matches(filter, new PersonBuilder().withName("Alice").build()));
 
         // Non-matching keyword
         filter = new PhoneContainsKeywordsFilter(Collections.singletonList("000"));
-        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withPhone("91234567").build()));
+        assertFalse(matches(filter, new PersonBuilder().withPhone("91234567").build()));
 
         // Keywords match name, email and address, but does not match phone
         filter = new PhoneContainsKeywordsFilter(Arrays.asList("000", "alice@email.com", "Main", "Alice"));
-        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withName("Alice").withPhone("91234567")
+        assertFalse(matches(filter, new PersonBuilder().withName("Alice").withPhone("91234567")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
@@ -83,4 +81,13 @@ public class PhoneContainsKeywordsFilterTest {
         assertEquals(expected, filter.toString());
     }
 
+    /**
+     * Returns true if {@code person} passes {@code filter} once it is added to an empty address book.
+     */
+    private static boolean matches(Filter<Person> filter, Person person) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        return filter.toPredicate(addressBook).test(person);
+    }
+
 }
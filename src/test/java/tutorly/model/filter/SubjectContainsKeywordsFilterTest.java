@@ -3,7 +3,6 @@ package tutorly.model.filter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -12,10 +11,10 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import tutorly.model.AddressBook;
+import tutorly.model.session.Session;
 import tutorly.testutil.SessionBuilder;
 
 public class SubjectContainsKeywordsFilterTest {
-    private final AddressBook addressBook = getTypicalAddressBook();
 
     @Test
     public void equals() {
@@ -46,29 +45,29 @@ public class SubjectContainsKeywordsFilterTest {
     public void test_subjectContainsKeywords_returnsTrue() {
         // One keyword
         SubjectContainsKeywordsFilter filter = new SubjectContainsKeywordsFilter(Collections.singletonList("Math"));
-        assertTrue(filter.toPredicate(addressBook).test(new SessionBuilder().withSubject("Mathematics").build()));
+        assertTrue(matches(filter, new SessionBuilder().withSubject("Mathematics").build()));
 
         // Multiple keywords
         filter = new SubjectContainsKeywordsFilter(Arrays.asList("Math", "Eng"));
-        assertTrue(filter.toPredicate(addressBook).test(new SessionBuilder().withSubject("Mathematics Eng").build()));
+        assertTrue(matches(filter, new SessionBuilder().withSubject("Mathematics Eng").build()));
 
         // Only one matching keyword
-        assertTrue(filter.toPredicate(addressBook).test(new SessionBuilder().withSubject("Math Science").build()));
+        assertTrue(matches(filter, new SessionBuilder().withSubject("Math Science").build()));
 
         // Mixed-case keyword
         filter = new SubjectContainsKeywordsFilter(Collections.singletonList("mAtH"));
-        assertTrue(filter.toPredicate(addressBook).test(new SessionBuilder().withSubject("Math").build()));
+        assertTrue(matches(filter, new SessionBuilder().withSubject("Math").build()));
     }
 
     @Test
     public void test_subjectDoesNotContainKeywords_returnsFalse() {
         // Zero keywords
         SubjectContainsKeywordsFilter filter = new SubjectContainsKeywordsFilter(Collections.emptyList());
-        assertFalse(filter.toPredicate(addressBook).test(new SessionBuilder().withSubject("Mathematics").build()));
+        assertFalse(matches(filter, new SessionBuilder().withSubject("Mathematics").build()));
 
         // Non-matching keyword
         filter = new SubjectContainsKeywordsFilter(Collections.singletonList("Eng"));
-        assertFalse(filter.toPredicate(addressBook).test(new SessionBuilder().withSubject("Mathematics").build()));
+        assertFalse(matches(filter, new SessionBuilder().withSubject("Mathematics").build()));
     }
 
     @Test
@@ -80,4 +79,13 @@ public class SubjectContainsKeywordsFilterTest {
         assertEquals(expected, filter.toString());
     }
 
+    /**
+     * Returns true if {@code session} passes {@code filter} once it is added to an empty address book.
+     */
+    private static boolean matches(Filter<Session> filter, Session session) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addSession(session);
+        return filter.toPredicate(addressBook).test(session);
+    }
+
 }
@@ -1,9 +1,13 @@
 package tutorly.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -39,6 +43,7 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr")); // long names
         assertTrue(Name.isValidName("a".repeat(Name.MAX_LENGTH))); // long names
         assertTrue(Name.isValidName("peter the 2nd")); // contains digits
+        assertTrue(Name.isValidName("Rene\u0301e")); // letter with combining accent
     }
 
     @Test
@@ -59,5 +64,59 @@ public class NameTest {
 
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
+
+        // different case -> returns true
+        assertTrue(name.equals(new Name("valid NAME")));
+
+        // different spacing -> returns true
+        assertTrue(name.equals(new Name("Valid   Name")));
+
+        // case-folded characters -> returns true
+        assertTrue(new Name("Strauss").equals(new Name("STRAUß")));
+
+        // combining accent instead of precomposed letter -> returns true
+        assertTrue(new Name("Ren\u00e9e").equals(new Name("Rene\u0301e")));
+    }
+
+    @Test
+    public void normalize() {
+        assertEquals("john tan", Name.normalize("John \t Tan"));
+        assertEquals("strasse", Name.normalize("Straße"));
+    }
+
+    @Test
+    public void normalize_differentEncodings_sameForm() {
+        // precomposed and combining accents
+        assertEquals(Name.normalize("Ren\u00e9e"), Name.normalize("Rene\u0301e"));
+
+        // compatibility characters: full-width letters, ligatures and non-breaking spaces
+        assertEquals("john tan", Name.normalize("\uff2a\uff4f\uff48\uff4e Tan"));
+        assertEquals("fiona", Name.normalize("\ufb01ona"));
+        assertEquals("john tan", Name.normalize("John\u00a0Tan"));
+    }
+
+    @Test
+    public void normalize_specialCaseMappings_sameForm() {
+        // final and non-final sigma
+        assertEquals(Name.normalize("\u039f\u03b4\u03c5\u03c3\u03c3\u03b5\u03c5\u03c3"),
+                Name.normalize("\u039f\u03b4\u03c5\u03c3\u03c3\u03b5\u03c5\u03c2"));
+        assertEquals(Name.normalize("\u03c3"), Name.normalize("\u03c2"));
+
+        // dotted capital I
+        assertEquals("istanbul", Name.normalize("\u0130stanbul"));
+        assertEquals(Name.normalize("Istanbul"), Name.normalize("\u0130STANBUL"));
+    }
+
+    @Test
+    public void getSearchTokens() {
+        Name name = new Name("John  Tan");
+        assertEquals(List.of("john", "tan"), List.of(name.getSearchTokens()));
+        assertSame(name.getSearchTokens(), name.getSearchTokens());
+    }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        assertEquals(new Name("Valid Name").hashCode(), new Name("vALID nAME").hashCode());
+        assertEquals(new Name("Valid Name").hashCode(), new Name("Valid  Name").hashCode());
     }
 }
@@ -13,8 +13,15 @@ import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.ALICE;
 import static tutorly.testutil.TypicalAddressBook.BOB;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import tutorly.model.tag.Tag;
 import tutorly.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -116,6 +123,47 @@ public class PersonTest {
         // person with different values -> returns different hashcode
         Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
         assertNotEquals(ALICE.hashCode(), editedAlice.hashCode());
+
+        // person with same values and tags given in a different order -> returns same hashcode
+        Person person = new PersonBuilder().withTags("friends", "colleagues").build();
+        Person samePerson = new PersonBuilder().withTags("colleagues", "friends").build();
+        assertEquals(person.hashCode(), samePerson.hashCode());
+
+        // hashcode is recomputed after the id is set
+        int hashCodeWithoutId = person.hashCode();
+        person.setId(1);
+        assertNotEquals(hashCodeWithoutId, person.hashCode());
+        samePerson.setId(1);
+        assertEquals(person.hashCode(), samePerson.hashCode());
+    }
+
+    @Test
+    public void getTags() {
+        Person person = new PersonBuilder().withTags("friends", "colleagues").build();
+        assertEquals(Set.of(new Tag("friends"), new Tag("colleagues")), person.getTags());
+        assertTrue(person.getTags().contains(new Tag("friends")));
+        assertFalse(person.getTags().contains(new Tag("family")));
+        assertFalse(person.getTags().contains(null));
+        assertEquals(2, person.getTags().size());
+    }
+
+    @Test
+    public void getTags_sameTags_tagStorageShared() {
+        String[][] tagNames = {{"friends", "colleagues"}, {"colleagues", "friends"}, {"family"}, {}};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new PersonBuilder().withName("Student " + i).withTags(tagNames[i % tagNames.length]).build());
+        }
+
+        // one tag set for each distinct combination of tags, and one instance of each tag
+        Set<Set<Tag>> tagSets = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Tag> tags = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : persons) {
+            tagSets.add(person.getTags());
+            tags.addAll(person.getTags());
+        }
+        assertEquals(3, tagSets.size());
+        assertEquals(3, tags.size());
     }
 
     @Test
@@ -186,6 +186,13 @@ public class UniquePersonListTest {
         assertEquals(ALICE, uniquePersonList.getPersonByName(ALICE.getName()).get());
     }
 
+    @Test
+    public void getPersonByName_differentCaseAndSpacing_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        Name name = new Name(ALICE.getName().fullName.toUpperCase().replace(" ", "   "));
+        assertEquals(ALICE, uniquePersonList.getPersonByName(name).get());
+    }
+
     @Test
     public void getPersonByName_personDoesNotExist_returnsEmpty() {
         uniquePersonList.add(ALICE);
@@ -0,0 +1,91 @@
+package tutorly.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.testutil.SessionBuilder;
+
+public class SessionIntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 25, 0, 0);
+
+    private final SessionIntervalTree tree = new SessionIntervalTree();
+
+    @Test
+    public void findOverlapping_emptyTree_returnsEmptyList() {
+        assertEquals(List.of(), tree.findOverlapping(timeslot(0, 60)));
+        assertFalse(tree.anyOverlapping(timeslot(0, 60), session -> true));
+    }
+
+    @Test
+    public void findOverlapping_adjacentTimeslots_notOverlapping() {
+        Session session = session(1, 60, 120);
+        tree.add(session);
+        assertEquals(List.of(), tree.findOverlapping(timeslot(0, 60)));
+        assertEquals(List.of(), tree.findOverlapping(timeslot(120, 180)));
+        assertEquals(List.of(session), tree.findOverlapping(timeslot(119, 180)));
+    }
+
+    @Test
+    public void anyOverlapping_filterExcludesSession_returnsFalse() {
+        Session session = session(1, 60, 120);
+        tree.add(session);
+        assertTrue(tree.anyOverlapping(timeslot(90, 100), s -> true));
+        assertFalse(tree.anyOverlapping(timeslot(90, 100), s -> !s.isSameSession(session)));
+    }
+
+    @Test
+    public void remove_sessionInTree_notFound() {
+        Session first = session(1, 60, 120);
+        Session second = session(2, 60, 120);
+        tree.add(first);
+        tree.add(second);
+        tree.remove(first);
+        assertEquals(List.of(second), tree.findOverlapping(timeslot(0, 180)));
+    }
+
+    @Test
+    public void randomOperations_sameAsLinearScan() {
+        Random random = new Random(42);
+        List<Session> expected = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                Session toRemove = expected.remove(random.nextInt(expected.size()));
+                tree.remove(toRemove);
+            } else {
+                int start = random.nextInt(10_000);
+                Session toAdd = session(i + 1, start, start + random.nextInt(300));
+                expected.add(toAdd);
+                tree.add(toAdd);
+            }
+
+            int start = random.nextInt(10_000);
+            Timeslot query = timeslot(start, start + random.nextInt(300));
+            List<Session> overlapping = expected.stream()
+                    .filter(session -> session.getTimeslot().isOverlapping(query))
+                    .sorted(Comparator.comparing((Session session) -> session.getTimeslot().getStartTime())
+                            .thenComparingInt(Session::getId))
+                    .collect(Collectors.toList());
+            assertEquals(overlapping, tree.findOverlapping(query));
+            assertEquals(!overlapping.isEmpty(), tree.anyOverlapping(query, session -> true));
+        }
+    }
+
+    private static Timeslot timeslot(int startMinute, int endMinute) {
+        return new Timeslot(BASE.plusMinutes(startMinute), BASE.plusMinutes(endMinute));
+    }
+
+    private static Session session(int id, int startMinute, int endMinute) {
+        return new SessionBuilder().withId(id).withTimeslot(timeslot(startMinute, endMinute)).build();
+    }
+}
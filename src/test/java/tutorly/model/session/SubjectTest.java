@@ -2,6 +2,7 @@ package tutorly.model.session;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +14,13 @@ public class SubjectTest {
         assertEquals("Mathematics", subject.subjectName);
     }
 
+    @Test
+    public void of_equalSubjectNames_returnsSameInstance() {
+        Subject subject = Subject.of(new String("Mathematics"));
+        assertSame(subject, Subject.of(new String("Mathematics")));
+        assertEquals(new Subject("Mathematics"), subject);
+    }
+
     @Test
     public void equals_sameObject_true() {
         Subject subject = new Subject("Mathematics");
@@ -6,9 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -64,6 +66,41 @@ public class UniqueSessionListTest {
         assertThrows(DuplicateElementException.class, () -> sessionList.add(session));
     }
 
+    @Test
+    void testGetOverlappingSessions() {
+        sessionList.add(session1);
+        sessionList.add(session3);
+        assertEquals(List.of(session1, session3), sessionList.getOverlappingSessions(session2));
+        assertEquals(List.of(), sessionList.getOverlappingSessions(session1));
+
+        sessionList.remove(session1);
+        assertEquals(List.of(session3), sessionList.getOverlappingSessions(session2));
+    }
+
+    @Test
+    void testGetSessionIdsOn() {
+        LocalDate date = LocalDate.of(2025, 3, 25);
+        Set<Integer> sessionIdsOnDate = sessionList.getSessionIdsOn(date);
+        assertEquals(Set.of(), sessionIdsOnDate);
+
+        Session multiDaySession = new SessionBuilder().withId(4).withTimeslot(new Timeslot(
+                LocalDateTime.of(2025, 3, 24, 22, 0), LocalDateTime.of(2025, 3, 26, 2, 0))).build();
+        sessionList.add(session1);
+        sessionList.add(multiDaySession);
+        assertEquals(Set.of(1, 4), sessionIdsOnDate);
+        assertEquals(Set.of(4), sessionList.getSessionIdsOn(date.minusDays(1)));
+        assertEquals(Set.of(4), sessionList.getSessionIdsOn(date.plusDays(1)));
+        assertEquals(Set.of(), sessionList.getSessionIdsOn(date.plusDays(2)));
+
+        Session movedSession = new SessionBuilder(session1).withTimeslot(new Timeslot(
+                LocalDateTime.of(2025, 3, 27, 10, 0), LocalDateTime.of(2025, 3, 27, 12, 0))).build();
+        sessionList.set(session1, movedSession);
+        sessionList.remove(multiDaySession);
+        assertEquals(Set.of(), sessionIdsOnDate);
+        assertEquals(Set.of(1), sessionList.getSessionIdsOn(date.plusDays(2)));
+        assertThrows(UnsupportedOperationException.class, () -> sessionIdsOnDate.add(5));
+    }
+
     @Test
     void testRemoveSuccess() {
         sessionList.add(session1);
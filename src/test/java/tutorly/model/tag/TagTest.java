@@ -1,9 +1,13 @@
 package tutorly.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.Assert.assertThrows;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -19,6 +23,26 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_equalTagNames_returnsSameInstance() {
+        Tag tag = Tag.of(new String("friends"));
+        assertSame(tag, Tag.of(new String("friends")));
+        assertEquals(new Tag("friends"), tag);
+    }
+
+    @Test
+    public void ofSet_equalTags_returnsSameUnmodifiableSet() {
+        Set<Tag> tags = Tag.ofSet(Set.of(new Tag("friends"), new Tag("colleagues")));
+        assertSame(tags, Tag.ofSet(Set.of(new Tag("colleagues"), new Tag("friends"))));
+        assertSame(Tag.of("friends"), tags.stream().filter(tag -> tag.tagName.equals("friends")).findAny().get());
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("family")));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
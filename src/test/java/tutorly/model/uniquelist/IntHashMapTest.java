@@ -0,0 +1,99 @@
+package tutorly.model.uniquelist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntHashMapTest {
+
+    private final IntHashMap<String> map = new IntHashMap<>();
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    public void get_keyNotInMap_returnsNull() {
+        assertNull(map.get(1));
+        assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    public void put_newKey_returnsNull() {
+        assertNull(map.put(1, "one"));
+        assertEquals("one", map.get(1));
+        assertTrue(map.containsKey(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        map.put(1, "one");
+        assertEquals("one", map.put(1, "uno"));
+        assertEquals("uno", map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void put_zeroAndNegativeKeys_success() {
+        map.put(0, "zero");
+        map.put(-1, "minus one");
+        assertEquals("zero", map.get(0));
+        assertEquals("minus one", map.get(-1));
+    }
+
+    @Test
+    public void remove_existingKey_returnsValue() {
+        map.put(1, "one");
+        assertEquals("one", map.remove(1));
+        assertNull(map.get(1));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void remove_keyNotInMap_returnsNull() {
+        assertNull(map.remove(1));
+    }
+
+    @Test
+    public void clear_nonEmptyMap_removesAllEntries() {
+        map.put(1, "one");
+        map.put(2, "two");
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(1));
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000);
+            switch (random.nextInt(3)) {
+            case 0:
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+                break;
+            case 1:
+                assertEquals(expected.remove(key), map.remove(key));
+                break;
+            default:
+                assertEquals(expected.get(key), map.get(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key = 0; key < 2_000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+}
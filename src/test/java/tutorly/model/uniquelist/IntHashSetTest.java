@@ -0,0 +1,89 @@
+package tutorly.model.uniquelist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IntHashSetTest {
+
+    private final IntHashSet set = new IntHashSet();
+
+    @Test
+    public void contains_valueNotInSet_returnsFalse() {
+        assertFalse(set.contains(1));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void add_newValue_returnsTrue() {
+        assertTrue(set.add(1));
+        assertTrue(set.contains(1));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void add_existingValue_returnsFalse() {
+        set.add(1);
+        assertFalse(set.add(1));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void add_zeroAndExtremeValues_success() {
+        set.add(0);
+        set.add(Integer.MIN_VALUE);
+        set.add(Integer.MAX_VALUE);
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(Integer.MIN_VALUE));
+        assertTrue(set.contains(Integer.MAX_VALUE));
+        assertEquals(Set.of(0, Integer.MIN_VALUE, Integer.MAX_VALUE), toSet());
+    }
+
+    @Test
+    public void remove_existingValue_returnsTrue() {
+        set.add(1);
+        assertTrue(set.remove(1));
+        assertFalse(set.contains(1));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void remove_valueNotInSet_returnsFalse() {
+        assertFalse(set.remove(1));
+        assertFalse(set.remove(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void randomOperations_sameAsHashSet() {
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt(2_000) - 1_000;
+            switch (random.nextInt(3)) {
+            case 0:
+                assertEquals(expected.add(value), set.add(value));
+                break;
+            case 1:
+                assertEquals(expected.remove(value), set.remove(value));
+                break;
+            default:
+                assertEquals(expected.contains(value), set.contains(value));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected, toSet());
+    }
+
+    private Set<Integer> toSet() {
+        Set<Integer> values = new HashSet<>();
+        set.iterator().forEachRemaining((int value) -> values.add(value));
+        return values;
+    }
+}
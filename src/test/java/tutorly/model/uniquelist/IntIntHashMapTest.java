@@ -0,0 +1,83 @@
+package tutorly.model.uniquelist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntIntHashMapTest {
+
+    private final IntIntHashMap map = new IntIntHashMap();
+
+    @Test
+    public void put_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, -1));
+    }
+
+    @Test
+    public void get_keyNotInMap_returnsMinusOne() {
+        assertEquals(-1, map.get(1));
+        assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    public void put_newKey_returnsMinusOne() {
+        assertEquals(-1, map.put(1, 0));
+        assertEquals(0, map.get(1));
+        assertTrue(map.containsKey(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        map.put(1, 10);
+        assertEquals(10, map.put(1, 11));
+        assertEquals(11, map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void remove_existingKey_returnsValue() {
+        map.put(-1, 10);
+        assertEquals(10, map.remove(-1));
+        assertEquals(-1, map.get(-1));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void remove_keyNotInMap_returnsMinusOne() {
+        assertEquals(-1, map.remove(1));
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000) - 1_000;
+            switch (random.nextInt(3)) {
+            case 0:
+                assertEquals((int) expected.getOrDefault(key, -1), map.put(key, i));
+                expected.put(key, i);
+                break;
+            case 1:
+                assertEquals((int) expected.getOrDefault(key, -1), map.remove(key));
+                expected.remove(key);
+                break;
+            default:
+                assertEquals((int) expected.getOrDefault(key, -1), map.get(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key = -1_000; key < 1_000; key++) {
+            assertEquals((int) expected.getOrDefault(key, -1), map.get(key));
+        }
+    }
+}
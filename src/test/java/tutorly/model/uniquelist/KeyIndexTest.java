@@ -0,0 +1,84 @@
+package tutorly.model.uniquelist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KeyIndexTest {
+
+    // Indexes strings by their length, so that distinct strings can share a key
+    private final KeyIndex<String> index = new KeyIndex<>(String::length);
+
+    @Test
+    public void get_keyNotInIndex_returnsNull() {
+        assertNull(index.get(1));
+        assertFalse(index.containsKey(1));
+    }
+
+    @Test
+    public void put_newKey_success() {
+        index.put("a");
+        assertEquals("a", index.get(1));
+        assertTrue(index.containsKey(1));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void put_existingKey_replacesElement() {
+        index.put("a");
+        index.put("b");
+        assertEquals("b", index.get(1));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void remove_existingKey_removesElement() {
+        index.put("a");
+        index.remove(1);
+        assertNull(index.get(1));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void clear_nonEmptyIndex_removesAllElements() {
+        index.put("a");
+        index.put("bb");
+        index.clear();
+        assertEquals(0, index.size());
+        assertNull(index.get(2));
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(500);
+            switch (random.nextInt(3)) {
+            case 0:
+                String element = "x".repeat(key);
+                expected.put(key, element);
+                index.put(element);
+                break;
+            case 1:
+                expected.remove(key);
+                index.remove(key);
+                break;
+            default:
+                assertEquals(expected.get(key), index.get(key));
+            }
+        }
+
+        assertEquals(expected.size(), index.size());
+        for (int key = 0; key < 500; key++) {
+            assertEquals(expected.get(key), index.get(key));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package tutorly.model.uniquelist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.commons.util.StringUtil;
+
+public class NgramIndexTest {
+
+    private final NgramIndex index = new NgramIndex();
+
+    @Test
+    public void search_emptyKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.search("  "));
+    }
+
+    @Test
+    public void search_shortKeyword_returnsMatchingIds() {
+        index.add(1, "Alice Pauline");
+        index.add(2, "Benson Meier");
+        assertEquals(Set.of(1, 2), index.search("e"));
+        assertEquals(Set.of(1), index.search("AL"));
+        assertEquals(Set.of(), index.search("xyz"));
+    }
+
+    @Test
+    public void search_longKeyword_returnsMatchingIds() {
+        index.add(1, "Alice Pauline");
+        index.add(2, "Paulo Alicia");
+        assertEquals(Set.of(1), index.search("pauli"));
+        assertEquals(Set.of(1, 2), index.search("alic"));
+
+        // substrings of the keyword appear in different words
+        assertEquals(Set.of(), index.search("alicepauline"));
+    }
+
+    @Test
+    public void search_indexChanged_viewUpdated() {
+        Set<Integer> shortMatches = index.search("al");
+        Set<Integer> longMatches = index.search("alice");
+        index.add(1, "Alice");
+        assertTrue(shortMatches.contains(1));
+        assertTrue(longMatches.contains(1));
+
+        index.add(1, "Bob");
+        assertFalse(shortMatches.contains(1));
+        assertFalse(longMatches.contains(1));
+
+        index.add(2, "Alice");
+        index.remove(2);
+        assertEquals(Set.of(), longMatches);
+    }
+
+    @Test
+    public void search_keywordNotInIndex_noGramsAdded() {
+        index.add(1, "Alice");
+        int gramCount = index.getGramCount();
+        assertEquals(Set.of(), index.search("xyz"));
+        assertEquals(Set.of(), index.search("bobby"));
+        index.remove(2);
+        assertEquals(gramCount, index.getGramCount());
+    }
+
+    @Test
+    public void remove_allIds_gramsRemoved() {
+        index.add(1, "Alice Pauline");
+        index.add(2, "Alicia");
+        index.remove(1);
+        index.add(2, "Bob");
+        index.remove(2);
+        assertEquals(0, index.getGramCount());
+    }
+
+    @Test
+    public void search_randomTexts_sameAsContainsWordIgnoreCase() {
+        Random random = new Random(42);
+        List<String> texts = IntStream.range(0, 500).mapToObj(i -> randomText(random)).toList();
+        for (int i = 0; i < texts.size(); i++) {
+            index.add(i, texts.get(i));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomWord(random, 1 + random.nextInt(5));
+            Set<Integer> expected = IntStream.range(0, texts.size())
+                    .filter(id -> StringUtil.containsWordIgnoreCase(texts.get(id), keyword))
+                    .boxed().collect(Collectors.toSet());
+            assertEquals(expected, index.search(keyword));
+        }
+    }
+
+    private static String randomText(Random random) {
+        return IntStream.range(0, 1 + random.nextInt(3))
+                .mapToObj(i -> randomWord(random, 2 + random.nextInt(6)))
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            char letter = (char) ('a' + random.nextInt(4));
+            word.append(random.nextBoolean() ? Character.toUpperCase(letter) : letter);
+        }
+        return word.toString();
+    }
+}
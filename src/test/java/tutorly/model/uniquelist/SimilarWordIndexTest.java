@@ -0,0 +1,86 @@
+package tutorly.model.uniquelist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.commons.util.StringUtil;
+
+public class SimilarWordIndexTest {
+
+    private final SimilarWordIndex index = new SimilarWordIndex();
+
+    @Test
+    public void search_emptyKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.search("  "));
+    }
+
+    @Test
+    public void search_misspelledKeyword_returnsSimilarIds() {
+        index.add(1, StringUtil.toSearchTokens("John Tan"));
+        index.add(2, StringUtil.toSearchTokens("Joan Lim"));
+        index.add(3, StringUtil.toSearchTokens("Alex Yeoh"));
+        assertEquals(Set.of(1, 2), index.search("JONH"));
+        assertEquals(Set.of(3), index.search("yoeh"));
+        assertEquals(Set.of(), index.search("xyz"));
+    }
+
+    @Test
+    public void search_indexChanged_viewUpdated() {
+        Set<Integer> matches = index.search("jonh");
+        index.add(1, StringUtil.toSearchTokens("John"));
+        assertTrue(matches.contains(1));
+
+        index.add(1, StringUtil.toSearchTokens("Bob"));
+        assertFalse(matches.contains(1));
+
+        index.add(2, StringUtil.toSearchTokens("John"));
+        index.remove(2);
+        assertEquals(Set.of(), matches);
+    }
+
+    @Test
+    public void search_randomTextsAddedAndRemoved_sameAsAnyTokenSimilar() {
+        Random random = new Random(42);
+        List<String[]> texts = IntStream.range(0, 500)
+                .mapToObj(i -> StringUtil.toSearchTokens(randomText(random))).toList();
+        for (int i = 0; i < texts.size(); i++) {
+            index.add(i, texts.get(i));
+        }
+        // remove most texts so that the index is rebuilt
+        for (int i = 0; i < 400; i++) {
+            index.remove(i);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomWord(random, 1 + random.nextInt(6));
+            Set<Integer> expected = IntStream.range(400, texts.size())
+                    .filter(id -> StringUtil.anyTokenSimilar(texts.get(id), keyword))
+                    .boxed().collect(Collectors.toSet());
+            assertEquals(expected, index.search(keyword));
+        }
+    }
+
+    private static String randomText(Random random) {
+        return IntStream.range(0, 1 + random.nextInt(3))
+                .mapToObj(i -> randomWord(random, 2 + random.nextInt(6)))
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(6)));
+        }
+        return word.toString();
+    }
+}